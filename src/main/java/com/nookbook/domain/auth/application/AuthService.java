@@ -3,6 +3,7 @@ package com.nookbook.domain.auth.application;
 import com.nookbook.domain.auth.domain.Token;
 import com.nookbook.domain.auth.domain.repository.TokenRepository;
 import com.nookbook.domain.auth.dto.response.LoginResponse;
+import com.nookbook.domain.book.infrastructure.stats.BookStatsCounter;
 import com.nookbook.domain.user.application.UserService;
 import com.nookbook.domain.user.domain.Provider;
 import com.nookbook.domain.user.domain.User;
@@ -32,6 +33,7 @@ public class AuthService {
     private final IdTokenVerifier idTokenVerifier;
     private final UserDetailsService userDetailsService;
     private final UserService userService;
+    private final BookStatsCounter bookStatsCounter;
 
 
     public String verifyIdTokenAndExtractUsername(String idToken, String email) {
@@ -120,6 +122,8 @@ public class AuthService {
         Optional<User> userOptional = userRepository.findByEmail(email);
         if (userOptional.isPresent()) {
             User deleteUser = userOptional.get();
+            // 함께 삭제되는 서재/컬렉션 도서만큼 도서 인기 지표 감소
+            bookStatsCounter.recordUserDeleted(deleteUser.getUserId());
             userRepository.delete(deleteUser);
         }
 
@@ -2,39 +2,177 @@ package com.nookbook.domain.book.application;
 
 import com.nookbook.domain.book.dto.response.BestSellerRes;
 import com.nookbook.domain.book.infrastructure.aladin.BestSellerFetcher;
-import lombok.RequiredArgsConstructor;
+import com.nookbook.domain.book.infrastructure.cache.BestSellerPageEncoder;
+import com.nookbook.domain.book.infrastructure.cache.BestSellerRankHistory;
+import com.nookbook.domain.book.infrastructure.cache.BestSellerSnapshot;
+import com.nookbook.domain.book.infrastructure.cache.EncodedBestSellerPage;
+import com.nookbook.domain.book.infrastructure.cache.BestSellerSnapshot.PageKey;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class BestSellerService {
 
+    private static final String CACHE_NAME = "bestSellers";
+    private static final String SNAPSHOT_KEY = "snapshot";
+
+    // 동시에 진행할 알라딘 호출 수 (LIST 커넥션 풀 크기 이하로 유지)
+    private static final int REFRESH_CONCURRENCY = 4;
+    private static final int PAGE_RETRY_ATTEMPTS = 2;
+    private static final Duration PAGE_RETRY_BACKOFF = Duration.ofSeconds(1);
+    // 이 시간이 지나도록 갱신되지 않은 스냅샷은 오래된(stale) 데이터로 집계
+    private static final Duration STALE_AFTER = Duration.ofHours(25);
+
     private final CacheManager cacheManager;
     private final BestSellerFetcher bestSellerFetcher;
+    private final BestSellerPageEncoder pageEncoder;
+    private final BestSellerRankHistory rankHistory;
 
-    private static final String CACHE_NAME = "bestSellers";
+    private final Timer refreshTimer;
+    private final Counter pageFailureCounter;
+    private final Counter refreshFailureCounter;
+    private final Counter staleCounter;
+
+    public BestSellerService(CacheManager cacheManager, BestSellerFetcher bestSellerFetcher, BestSellerPageEncoder pageEncoder,
+                             BestSellerRankHistory rankHistory, MeterRegistry meterRegistry) {
+        this.cacheManager = cacheManager;
+        this.bestSellerFetcher = bestSellerFetcher;
+        this.pageEncoder = pageEncoder;
+        this.rankHistory = rankHistory;
+        this.refreshTimer = meterRegistry.timer("bestseller.refresh.duration");
+        this.pageFailureCounter = meterRegistry.counter("bestseller.refresh.page.failures");
+        this.refreshFailureCounter = meterRegistry.counter("bestseller.refresh.failures");
+        this.staleCounter = meterRegistry.counter("cache.stale.served", "cache", CACHE_NAME);
+    }
 
-    @Cacheable(value = CACHE_NAME, key = "#category + '-' + #page")
     public BestSellerRes getBestSellerFromCache(int page, int category, int size) {
-        return bestSellerFetcher.fetchBestSeller(page, category, size);
+        BestSellerSnapshot snapshot = getSnapshot();
+        BestSellerRes cached = snapshot.get(category, page);
+        if (cached != null) {
+            recordIfStale(snapshot);
+            return cached;
+        }
+        // 아직 스냅샷이 없거나 스냅샷에 없는 페이지는 직접 조회
+        return bestSellerFetcher.fetchBestSeller(page, category, size)
+                .onErrorReturn(new BestSellerRes())
+                .block();
     }
 
-    public void refreshCategoryAndPage(int page, int category, int size) {
-        BestSellerRes result = bestSellerFetcher.fetchBestSeller(page, category, size);
-        String cacheKey = category + "-" + page;
-        cacheManager.getCache(CACHE_NAME).put(cacheKey, result);
+    // 미리 직렬화된 페이지 (스냅샷에 없으면 null)
+    public EncodedBestSellerPage getEncodedPage(int category, int page) {
+        BestSellerSnapshot snapshot = getSnapshot();
+        EncodedBestSellerPage encoded = snapshot.getEncoded(category, page);
+        if (encoded != null) {
+            recordIfStale(snapshot);
+        }
+        return encoded;
+    }
+
+    public BestSellerSnapshot getSnapshot() {
+        BestSellerSnapshot snapshot = bestSellerCache().get(SNAPSHOT_KEY, BestSellerSnapshot.class);
+        return snapshot != null ? snapshot : BestSellerSnapshot.empty();
     }
 
-    public void refreshAllCategoriesAndPages(int totalPages, List<Integer> categories, int size) {
+    // 응답 바이트와 ETag는 게시 시점에 한 번만 만들어 둠
+    // 전날 대비 순위 변동도 직렬화 전에 채움 (스냅샷 파일에는 순위 변동을 저장하지 않으므로 복원 시에도 다시 계산)
+    // 순위 변동은 복사본에 채우므로 받은 스냅샷과 현재 게시된 스냅샷은 바뀌지 않음
+    public void publish(BestSellerSnapshot snapshot) {
+        BestSellerSnapshot annotated = rankHistory.annotate(snapshot);
+        bestSellerCache().put(SNAPSHOT_KEY, annotated.encode(pageEncoder::encode));
+    }
+
+    // 전체 카테고리/페이지를 병렬로 조회해 새 스냅샷을 만든 뒤 한 번에 교체
+    // 실패한 페이지는 개별 재시도 후, 그래도 실패하면 이전 스냅샷의 페이지를 사용
+    public BestSellerSnapshot refreshAllCategoriesAndPages(int totalPages, List<Integer> categories, int size) {
+        BestSellerSnapshot previous = getSnapshot();
+        AtomicInteger failures = new AtomicInteger();
+        // 이번 갱신에서 조회하지 못해 이전 스냅샷에서 가져온 페이지
+        Set<PageKey> carriedOver = ConcurrentHashMap.newKeySet();
+        long startedAt = System.nanoTime();
+
+        Map<PageKey, BestSellerRes> pages = Flux.fromIterable(pageKeys(totalPages, categories))
+                .flatMap(key -> fetchPage(key, size, previous, failures, carriedOver), REFRESH_CONCURRENCY)
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .block();
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+        refreshTimer.record(elapsed);
+
+        int total = totalPages * categories.size();
+        if (pages == null || failures.get() == total) {
+            refreshFailureCounter.increment();
+            log.error("베스트셀러 갱신 실패 - 모든 페이지 조회에 실패하여 이전 스냅샷을 유지합니다.");
+            // 캐시 만료(expireAfterWrite)로 이전 스냅샷이 사라지지 않도록 다시 저장 (stale-while-revalidate)
+            if (!previous.isEmpty()) {
+                bestSellerCache().put(SNAPSHOT_KEY, previous);
+            }
+            return previous;
+        }
+
+        BestSellerSnapshot snapshot = new BestSellerSnapshot(pages, LocalDateTime.now());
+        // 순위 기록에는 이번에 조회한 페이지만 남김 (이전 스냅샷의 순위가 오늘 순위로 저장되지 않도록)
+        Map<PageKey, BestSellerRes> fetched = new HashMap<>(pages);
+        fetched.keySet().removeAll(carriedOver);
+        rankHistory.record(new BestSellerSnapshot(fetched, snapshot.getRefreshedAt()));
+        publish(snapshot);
+        log.info("베스트셀러 갱신 완료 - {}ms, 페이지: {}/{}, 실패: {}", elapsed.toMillis(), pages.size(), total, failures.get());
+        return snapshot;
+    }
+
+    private Mono<Map.Entry<PageKey, BestSellerRes>> fetchPage(PageKey key, int size, BestSellerSnapshot previous,
+                                                           AtomicInteger failures, Set<PageKey> carriedOver) {
+        return bestSellerFetcher.fetchBestSeller(key.page(), key.category(), size)
+                .retryWhen(Retry.backoff(PAGE_RETRY_ATTEMPTS, PAGE_RETRY_BACKOFF))
+                .onErrorResume(e -> {
+                    failures.incrementAndGet();
+                    pageFailureCounter.increment();
+                    log.warn("베스트셀러 페이지 갱신 실패 - category: {}, page: {}, cause: {}", key.category(), key.page(), e.getMessage());
+                    BestSellerRes previousPage = previous.get(key);
+                    if (previousPage != null) {
+                        carriedOver.add(key);
+                    }
+                    return Mono.justOrEmpty(previousPage);
+                })
+                .map(res -> Map.entry(key, res));
+    }
+
+    private List<PageKey> pageKeys(int totalPages, List<Integer> categories) {
+        List<PageKey> keys = new ArrayList<>(totalPages * categories.size());
         for (int category : categories) {
             for (int page = 1; page <= totalPages; page++) {
-                refreshCategoryAndPage(page, category, size);
+                keys.add(new PageKey(category, page));
             }
         }
+        return keys;
+    }
+
+    private void recordIfStale(BestSellerSnapshot snapshot) {
+        if (snapshot.getRefreshedAt() != null && snapshot.getRefreshedAt().isBefore(LocalDateTime.now().minus(STALE_AFTER))) {
+            staleCounter.increment();
+        }
+    }
+
+    private Cache bestSellerCache() {
+        return cacheManager.getCache(CACHE_NAME);
     }
 
 }
@@ -1,13 +1,19 @@
 package com.nookbook.domain.book.application;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nookbook.domain.book.domain.Book;
 import com.nookbook.domain.book.domain.repository.BookRepository;
 import com.nookbook.domain.book.dto.response.*;
-import com.nookbook.domain.book.infrastructure.aladin.AladinService;
+import com.nookbook.domain.book.exception.AladinQuotaExceededException;
+import com.nookbook.domain.book.exception.AladinRateLimitedException;
+import com.nookbook.domain.book.exception.AladinUnavailableException;
+import com.nookbook.domain.book.infrastructure.cache.BookCatalogCache;
+import com.nookbook.domain.book.infrastructure.cache.EncodedBestSellerPage;
+import com.nookbook.domain.book.infrastructure.cache.SearchResultCache;
+import com.nookbook.domain.book.infrastructure.search.LocalBookIndex;
+import com.nookbook.domain.book.infrastructure.stats.BookStatsCounter;
 import com.nookbook.domain.collection.domain.CollectionBook;
 import com.nookbook.domain.collection.domain.repository.CollectionBookRepository;
+import com.nookbook.domain.collection.domain.repository.CollectionMembership;
 import com.nookbook.domain.keyword.application.KeywordService;
 import com.nookbook.domain.note.domain.repository.NoteRepository;
 import com.nookbook.domain.user.domain.User;
@@ -17,49 +23,156 @@ import com.nookbook.domain.user_book.domain.UserBook;
 import com.nookbook.domain.user_book.domain.repository.UserBookRepository;
 import com.nookbook.global.DefaultAssert;
 import com.nookbook.global.config.security.token.UserPrincipal;
+import com.nookbook.global.exception.BusinessException;
 import com.nookbook.global.payload.ApiResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
 
-import java.time.LocalDate;
+import java.time.Duration;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class BookService {
 
+    // 한 번에 상세 조회할 수 있는 최대 도서 수
+    private static final int MAX_BULK_ISBNS = 50;
+
+    // 검색 요청 스레드가 알라딘 응답을 기다리는 최대 시간
+    private static final Duration SEARCH_TIMEOUT = Duration.ofSeconds(5);
+
     private final UserRepository userRepository;
     private final BookRepository bookRepository;
     private final NoteRepository noteRepository;
     private final UserBookRepository userBookRepository;
     private final CollectionBookRepository collectionBookRepository;
 
-    private final AladinService aladinService;
     private final BestSellerService bestSellerService;
+    private final BookUserStatusService bookUserStatusService;
+    private final BookStatsService bookStatsService;
+    private final BookStatsCounter bookStatsCounter;
     private final KeywordService keywordService;
+    private final BookCatalogCache bookCatalogCache;
+    private final SearchResultCache searchResultCache;
+    private final LocalBookIndex localBookIndex;
 
     // 검색
     @Transactional
-    public ResponseEntity<?> searchBooks(UserPrincipal userPrincipal, String keyword, int page) {
+    public ResponseEntity<?> searchBooks(UserPrincipal userPrincipal, String keyword, int page, boolean withStatus) {
         User user = validUserById(userPrincipal.getId());
         // 검색 키워드 저장
         keywordService.saveKeyword(user, keyword);
-        String responseBody = aladinService.callAladinSearchBooks(keyword, page);
-        // JSON 파싱 및 DTO 변환
-        SearchRes searchRes = convertToSearchRes(responseBody);
-        return ResponseEntity.ok(searchRes);
+        SearchRes searchRes = searchBooks(keyword, page);
+        if (!withStatus) {
+            return ResponseEntity.ok(searchRes);
+        }
+        // 검색 결과의 도서별 독서 상태를 함께 응답
+        return ResponseEntity.ok(withUserStatuses(user, searchRes, searchIsbns(searchRes)));
+    }
+
+    // 알라딘 응답은 요청 스레드에서 기다리되, 호출 유형별 커넥션 풀(bulkhead)과 SEARCH_TIMEOUT으로 대기 시간을 제한
+    private SearchRes searchBooks(String keyword, int page) {
+        // 로컬 색인에서 충분한 결과를 찾으면 알라딘을 호출하지 않음
+        Optional<SearchRes> localResult = localBookIndex.search(keyword, page);
+        if (localResult.isPresent()) {
+            return localResult.get();
+        }
+        // 정규화된 검색어 + 페이지 단위로 캐싱된 결과가 있으면 알라딘을 호출하지 않음
+        return searchResultCache.search(keyword, page)
+                .timeout(SEARCH_TIMEOUT)
+                .defaultIfEmpty(new SearchRes())
+                // 알라딘 호출 한도가 부족하거나 서킷이 열려 있으면 로컬 색인에서 찾은 결과만으로 응답
+                .onErrorResume(e -> e instanceof AladinQuotaExceededException || e instanceof AladinRateLimitedException
+                        || e instanceof AladinUnavailableException, e -> {
+                    log.info("알라딘 호출 불가로 로컬 검색 결과 사용 - keyword: {}, cause: {}", keyword, e.getMessage());
+                    return Mono.just(localBookIndex.search(keyword, page, 1).orElseGet(SearchRes::new));
+                })
+                // 그 밖의 실패(시간 초과, 응답 오류 등)는 빈 결과로 감추지 않고 503으로 응답
+                .onErrorMap(e -> !(e instanceof BusinessException), e -> {
+                    log.error("도서 검색 실패 - keyword: {}", keyword, e);
+                    return new AladinUnavailableException();
+                })
+                .block();
+    }
+
+    // 캐시된 목록 객체는 여러 사용자가 공유하므로 수정하지 않고, 독서 상태는 별도 목록으로 함께 응답
+    private <T> BookListWithStatusRes<T> withUserStatuses(User user, T books, List<String> isbns) {
+        return BookListWithStatusRes.<T>builder()
+                .books(books)
+                .userStatuses(bookUserStatusService.getStatuses(user, isbns))
+                .build();
+    }
+
+    private List<String> searchIsbns(SearchRes searchRes) {
+        if (searchRes.getItems() == null) {
+            return new ArrayList<>();
+        }
+        return searchRes.getItems().stream().map(SearchBookRes::getIsbn13).collect(Collectors.toList());
+    }
+
+    private List<String> bestSellerIsbns(BestSellerRes bestSellerRes) {
+        if (bestSellerRes.getItems() == null) {
+            return new ArrayList<>();
+        }
+        return bestSellerRes.getItems().stream().map(BestSellerBookRes::getIsbn13).collect(Collectors.toList());
     }
 
     // 베스트셀러 + 카테고리
     // 종합(0), 소설(1), 경제/경영(170), 자기계발(336), 시(50940), 에세이(55889), 인문/교양(656), 취미/실용(55890), 매거진(2913)
-    public ResponseEntity<?> getBestSellerByCategory(int page, int category, int size) {
+    public ResponseEntity<?> getBestSellerByCategory(int page, int category, int size, String ifNoneMatch, String acceptEncoding) {
+        EncodedBestSellerPage encoded = bestSellerService.getEncodedPage(category, page);
+        if (encoded == null) {
+            BestSellerRes bestSellerRes = bestSellerService.getBestSellerFromCache(page, category, size);
+            return ResponseEntity.ok(bestSellerRes);
+        }
+        boolean gzip = encoded.hasGzip() && acceptsGzip(acceptEncoding);
+        String etag = gzip ? encoded.getGzipEtag() : encoded.getEtag();
+        // 미리 계산한 ETag와 비교해 변경이 없으면 본문 없이 304
+        if (encoded.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+        // 갱신 시점에 직렬화해 둔 바이트를 그대로 응답 (Jackson 직렬화 없음)
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(encoded.getGzip());
+        }
+        return builder.body(encoded.getJson());
+    }
+
+    // 사용자별 독서 상태를 포함하므로 미리 직렬화된 공용 응답(ETag)은 사용하지 않음
+    public ResponseEntity<?> getBestSellerByCategoryWithStatus(UserPrincipal userPrincipal, int page, int category, int size) {
+        User user = validUserById(userPrincipal.getId());
         BestSellerRes bestSellerRes = bestSellerService.getBestSellerFromCache(page, category, size);
-        return ResponseEntity.ok(bestSellerRes);
+        return ResponseEntity.ok(withUserStatuses(user, bestSellerRes, bestSellerIsbns(bestSellerRes)));
+    }
+
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String value = coding.replace(" ", "").toLowerCase(Locale.ROOT);
+            // gzip;q=0 은 거부 의사
+            if (value.equals("gzip") || (value.startsWith("gzip;") && !value.matches("gzip;q=0(\\.0*)?"))) {
+                return true;
+            }
+        }
+        return false;
     }
 
     // 상세 조회
@@ -72,50 +185,33 @@ public class BookService {
         boolean hasNote = false;
         List<Long> ids = new ArrayList<>();
 
-        BookDetailRes bookDetailRes;
-        Book book;
-        if (!bookRepository.existsByIsbn(isbn13)) {
-            bookDetailRes = getBookInfoByISBN(isbn13);
-            book = saveBookInfo(bookDetailRes);
-        } else {
-            book = validBookByIsbn13(isbn13);
-            Optional<UserBook> userBookOptional = userBookRepository.findByUserAndBook(user, book);
-            if (userBookOptional.isPresent()) {
-                UserBook userBook = userBookOptional.get();
-                // 독서 상태 확인
-                bookStatus = userBookOptional.get().getBookStatus();
-                // 노트 존재 여부 확인
-                hasNote = noteRepository.existsByUserBook(userBook);
-            }
-            // 컬렉션 저장 여부 확인
-            List<CollectionBook> collectionBooks = collectionBookRepository.findByCollectionUserAndBook(user, book);
-            isStoredCollection = !collectionBooks.isEmpty();
-            if (isStoredCollection) {
-                ids = collectionBooks.stream()
-                        .map(collectionBook -> collectionBook.getCollection().getCollectionId())
-                        .collect(Collectors.toList());
-            }
-            bookDetailRes = BookDetailRes.builder()
-                    .title(book.getTitle())
-                    .author(book.getAuthor())
-                    .cover(book.getImage())
-                    .isbn13(isbn13)
-                    .page(book.getPage())
-                    .pubDate(book.getPublishedDate().toString())
-                    .description(book.getInfo())
-                    .toc(book.getIdx())
-                    .link(book.getLink())
-                    .category(book.getCategory())
-                    .build();
+        // 캐시 -> DB -> 알라딘 순으로 조회 (동일 ISBN의 동시 요청은 하나의 로딩을 공유)
+        BookCatalogCache.CatalogBook catalogBook = bookCatalogCache.get(isbn13);
+        Book book = catalogBook.book();
+        Optional<UserBook> userBookOptional = userBookRepository.findByUserAndBook(user, book);
+        if (userBookOptional.isPresent()) {
+            UserBook userBook = userBookOptional.get();
+            // 독서 상태 확인
+            bookStatus = userBookOptional.get().getBookStatus();
+            // 노트 존재 여부 확인
+            hasNote = noteRepository.existsByUserBook(userBook);
+        }
+        // 컬렉션 저장 여부 확인
+        List<CollectionBook> collectionBooks = collectionBookRepository.findByCollectionUserAndBook(user, book);
+        isStoredCollection = !collectionBooks.isEmpty();
+        if (isStoredCollection) {
+            ids = collectionBooks.stream()
+                    .map(collectionBook -> collectionBook.getCollection().getCollectionId())
+                    .collect(Collectors.toList());
         }
-
         BookRes bookRes = BookRes.builder()
                 .bookId(book.getBookId())
                 .bookStatus(bookStatus)
                 .storedCollection(isStoredCollection)
                 .collectionIds(ids)
                 .hasNote(hasNote)
-                .item(bookDetailRes)
+                .item(toBookDetailRes(catalogBook))
+                .stats(bookStatsService.getStats(book.getBookId()))
                 .build();
 
         ApiResponse apiResponse = ApiResponse.builder()
@@ -125,70 +221,81 @@ public class BookService {
         return ResponseEntity.ok(apiResponse);
     }
 
-    private Book saveBookInfo(BookDetailRes bookDetailRes) {
-        Book book = Book.builder()
-                .title(bookDetailRes.getTitle())
-                .author(bookDetailRes.getAuthor())
-                .publisher(bookDetailRes.getPublisher())
-                .image(bookDetailRes.getCover())
-                .page(bookDetailRes.getPage())
-                .isbn(bookDetailRes.getIsbn13())
-                .publishedDate(LocalDate.parse(bookDetailRes.getPubDate()))
-                .info(bookDetailRes.getDescription())
-                .idx(bookDetailRes.getToc())
-                .link(bookDetailRes.getLink())
-                .category(bookDetailRes.getCategory()).build();
-        bookRepository.save(book);
-        return book;
-    }
+    // 여러 도서 상세 조회 (목록 화면용)
+    // 도서, 독서 상태, 노트 존재 여부, 컬렉션 저장 여부를 각각 IN 쿼리 한 번으로 조회
+    // 응답은 요청한 ISBN 순서를 따르며, 찾을 수 없는 도서는 제외
+    @Transactional
+    public ResponseEntity<?> getBookDetails(UserPrincipal userPrincipal, List<String> isbns) {
+        User user = validUserById(userPrincipal.getId());
+        List<String> distinctIsbns = isbns.stream()
+                .filter(isbn -> isbn != null && !isbn.isBlank())
+                .distinct()
+                .collect(Collectors.toList());
+        DefaultAssert.isTrue(!distinctIsbns.isEmpty(), "조회할 도서의 isbn을 입력해주세요.");
+        DefaultAssert.isTrue(distinctIsbns.size() <= MAX_BULK_ISBNS, "한 번에 최대 " + MAX_BULK_ISBNS + "권까지 조회할 수 있습니다.");
 
-    private BookDetailRes getBookInfoByISBN(String isbn13) {
-        String responseBody = aladinService.callAladinBookDetail(isbn13);
-        // JSON 파싱 및 DTO 변환
-        return convertToBookDetailRes(responseBody);
-    }
+        Map<String, BookCatalogCache.CatalogBook> catalogBooks = bookCatalogCache.getAll(distinctIsbns);
+        List<Book> books = catalogBooks.values().stream()
+                .map(BookCatalogCache.CatalogBook::book)
+                .collect(Collectors.toList());
 
-    private SearchRes convertToSearchRes(String json) {
-        ObjectMapper objectMapper = new ObjectMapper();
-        try {
-            // JSON 문자열을 SearchRes 객체로 변환
-            return objectMapper.readValue(json, SearchRes.class);
-        } catch (Exception e) {
-            System.err.println("Error converting JSON to SearchRes: " + e.getMessage());
-            e.printStackTrace();
-            return new SearchRes(); // 오류 발생 시 빈 객체 반환
+        Map<Long, UserBook> userBooks = new HashMap<>();
+        Set<Long> userBookIdsWithNotes = new HashSet<>();
+        Map<Long, List<Long>> collectionIds = new HashMap<>();
+        if (!books.isEmpty()) {
+            List<UserBook> userBookList = userBookRepository.findByUserAndBookIn(user, books);
+            for (UserBook userBook : userBookList) {
+                userBooks.put(userBook.getBook().getBookId(), userBook);
+            }
+            if (!userBookList.isEmpty()) {
+                userBookIdsWithNotes.addAll(noteRepository.findUserBookIdsWithNotes(userBookList));
+            }
+            for (CollectionMembership membership : collectionBookRepository.findMembershipsByUserAndBookIn(user, books)) {
+                collectionIds.computeIfAbsent(membership.getBookId(), id -> new ArrayList<>()).add(membership.getCollectionId());
+            }
         }
-    }
 
-    private BookDetailRes convertToBookDetailRes(String json) {
-        ObjectMapper objectMapper = new ObjectMapper();
-        try {
-            // JSON 문자열을 Map 형태로 변환
-            Map<String, Object> map = objectMapper.readValue(json, new TypeReference<>() {});
-            // "item" 배열을 추출
-            List<Map<String, Object>> items = (List<Map<String, Object>>) map.get("item");
-            // 첫 번째 아이템을 BookDetailRes로 변환
-            BookDetailRes bookDetailRes = null;
-            if (items != null && !items.isEmpty()) {
-                Map<String, Object> item = items.get(0);
-                bookDetailRes = objectMapper.convertValue(item, BookDetailRes.class);
-                // subInfo를 추출하고 itemPage 값을 설정
-                Map<String, Object> subInfo = (Map<String, Object>) item.get("subInfo");
-                if (subInfo != null) {
-                    int itemPage = (Integer) subInfo.get("itemPage");
-                    String toc = (String) subInfo.get("toc");
-                    bookDetailRes.setPage(itemPage);
-                    bookDetailRes.setToc(toc);
-                }
-                bookDetailRes.formatCategoryName(bookDetailRes.getCategory());
+        List<BookRes> bookResList = new ArrayList<>(catalogBooks.size());
+        for (String isbn : distinctIsbns) {
+            BookCatalogCache.CatalogBook catalogBook = catalogBooks.get(isbn);
+            if (catalogBook == null) {
+                continue;
             }
-            // BookDetailRes 객체 반환
-            return bookDetailRes;
-        } catch (Exception e) {
-            System.err.println("Error converting JSON to BookRes: " + e.getMessage());
-            e.printStackTrace();
-            return new BookDetailRes();
+            Long bookId = catalogBook.book().getBookId();
+            UserBook userBook = userBooks.get(bookId);
+            List<Long> ids = collectionIds.getOrDefault(bookId, new ArrayList<>());
+            bookResList.add(BookRes.builder()
+                    .bookId(bookId)
+                    .bookStatus(userBook != null ? userBook.getBookStatus() : BookStatus.BEFORE_READ)
+                    .storedCollection(!ids.isEmpty())
+                    .collectionIds(ids)
+                    .hasNote(userBook != null && userBookIdsWithNotes.contains(userBook.getUserBookId()))
+                    .item(toBookDetailRes(catalogBook))
+                    .build());
         }
+
+        ApiResponse apiResponse = ApiResponse.builder()
+                .check(true)
+                .information(bookResList)
+                .build();
+        return ResponseEntity.ok(apiResponse);
+    }
+
+    private BookDetailRes toBookDetailRes(BookCatalogCache.CatalogBook catalogBook) {
+        Book book = catalogBook.book();
+        return BookDetailRes.builder()
+                .title(book.getTitle())
+                .author(book.getAuthor())
+                .cover(book.getImage())
+                .isbn13(book.getIsbn())
+                .page(book.getPage())
+                .pubDate(book.getPublishedDate() == null ? null : book.getPublishedDate().toString())
+                .description(catalogBook.content().info())
+                .toc(catalogBook.content().idx())
+                .link(book.getLink())
+                .category(book.getCategory())
+                .publisher(book.getPublisher())
+                .build();
     }
 
     // 독서 상태 변경
@@ -217,6 +324,7 @@ public class BookService {
                     .build();
             userBookRepository.save(userBook);
         }
+        bookStatsCounter.recordReadStatus(book.getBookId(), userBook.getBookStatus() == BookStatus.READ);
 
         ApiResponse apiResponse = ApiResponse.builder()
                 .check(true)
@@ -280,12 +388,4 @@ public class BookService {
         return userOptional.get();
     }
 
-    private Book validBookByIsbn13(String isbn13) {
-        Optional<Book> bookOptional = bookRepository.findByIsbn(isbn13);
-        DefaultAssert.isTrue(bookOptional.isPresent(), "해당 도서가 존재하지 않습니다.");
-        return bookOptional.get();
-    }
-
-
-
 }
@@ -0,0 +1,68 @@
+package com.nookbook.domain.book.application;
+
+import com.nookbook.domain.book.domain.BookStats;
+import com.nookbook.domain.book.domain.repository.BookStatsRepository;
+import com.nookbook.domain.book.domain.repository.TrendingBook;
+import com.nookbook.domain.book.dto.response.BookStatsRes;
+import com.nookbook.domain.book.dto.response.TrendingBookRes;
+import com.nookbook.domain.book.infrastructure.stats.BookStatsCounter;
+import com.nookbook.global.payload.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+// 도서 인기 지표 조회 (book_stats + 아직 반영되지 않은 메모리 증감분)
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BookStatsService {
+
+    private static final int MAX_SIZE = 50;
+
+    private final BookStatsRepository bookStatsRepository;
+    private final BookStatsCounter bookStatsCounter;
+
+    public BookStatsRes getStats(Long bookId) {
+        Optional<BookStats> bookStats = bookStatsRepository.findById(bookId);
+        BookStatsCounter.Delta delta = bookStatsCounter.pendingDelta(bookId);
+        return BookStatsRes.builder()
+                .readCount(bookStats.map(BookStats::getReadCount).orElse(0L) + delta.readCount())
+                .collectionCount(bookStats.map(BookStats::getCollectionCount).orElse(0L) + delta.collectionCount())
+                .timerStartCount(bookStats.map(BookStats::getTimerStartCount).orElse(0L) + delta.timerStartCount())
+                .build();
+    }
+
+    // 누크북 인기 도서 (최근 활동에 가중치를 둔 점수 순)
+    public ResponseEntity<?> getTrendingBooks(int size) {
+        List<TrendingBook> trendingBooks = bookStatsRepository.findTrending(PageRequest.of(0, Math.min(size, MAX_SIZE)));
+        List<TrendingBookRes> trendingBookResList = new ArrayList<>(trendingBooks.size());
+        int rank = 1;
+        for (TrendingBook trendingBook : trendingBooks) {
+            trendingBookResList.add(TrendingBookRes.builder()
+                    .rank(rank++)
+                    .bookId(trendingBook.getBookId())
+                    .isbn13(trendingBook.getIsbn())
+                    .title(trendingBook.getTitle())
+                    .author(trendingBook.getAuthor())
+                    .cover(trendingBook.getImage())
+                    .stats(BookStatsRes.builder()
+                            .readCount(trendingBook.getReadCount())
+                            .collectionCount(trendingBook.getCollectionCount())
+                            .timerStartCount(trendingBook.getTimerStartCount())
+                            .build())
+                    .build());
+        }
+
+        ApiResponse apiResponse = ApiResponse.builder()
+                .check(true)
+                .information(trendingBookResList)
+                .build();
+        return ResponseEntity.ok(apiResponse);
+    }
+}
@@ -0,0 +1,60 @@
+package com.nookbook.domain.book.application;
+
+import com.nookbook.domain.book.dto.response.BookUserStatusRes;
+import com.nookbook.domain.collection.domain.repository.CollectionBookRepository;
+import com.nookbook.domain.collection.domain.repository.IsbnCollectionMembership;
+import com.nookbook.domain.user.domain.User;
+import com.nookbook.domain.user_book.domain.BookStatus;
+import com.nookbook.domain.user_book.domain.repository.IsbnBookStatus;
+import com.nookbook.domain.user_book.domain.repository.UserBookRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+// 검색/베스트셀러 목록의 도서별 사용자 독서 상태를 한 번에 조회
+// 도서마다 상세 조회를 다시 호출하지 않도록, 페이지의 ISBN 목록으로 IN 쿼리 두 번(독서 상태 + 노트 수, 컬렉션)만 실행
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BookUserStatusService {
+
+    private final UserBookRepository userBookRepository;
+    private final CollectionBookRepository collectionBookRepository;
+
+    // isbns의 순서대로 반환 (저장하지 않은 도서는 BEFORE_READ)
+    public List<BookUserStatusRes> getStatuses(User user, List<String> isbns) {
+        List<String> distinctIsbns = isbns.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        if (distinctIsbns.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<String, IsbnBookStatus> statuses = new HashMap<>();
+        for (IsbnBookStatus status : userBookRepository.findStatusesByUserAndIsbnIn(user, distinctIsbns)) {
+            statuses.put(status.getIsbn(), status);
+        }
+        Map<String, List<Long>> collectionIds = new HashMap<>();
+        for (IsbnCollectionMembership membership : collectionBookRepository.findMembershipsByUserAndIsbnIn(user, distinctIsbns)) {
+            collectionIds.computeIfAbsent(membership.getIsbn(), isbn -> new ArrayList<>()).add(membership.getCollectionId());
+        }
+
+        List<BookUserStatusRes> result = new ArrayList<>(distinctIsbns.size());
+        for (String isbn : distinctIsbns) {
+            IsbnBookStatus status = statuses.get(isbn);
+            List<Long> ids = collectionIds.getOrDefault(isbn, new ArrayList<>());
+            result.add(BookUserStatusRes.builder()
+                    .isbn13(isbn)
+                    .bookStatus(status != null ? status.getBookStatus() : BookStatus.BEFORE_READ)
+                    .storedCollection(!ids.isEmpty())
+                    .collectionIds(ids)
+                    .hasNote(status != null && status.getNoteCount() > 0)
+                    .build());
+        }
+        return result;
+    }
+}
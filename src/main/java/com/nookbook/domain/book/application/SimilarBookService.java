@@ -0,0 +1,59 @@
+package com.nookbook.domain.book.application;
+
+import com.nookbook.domain.book.domain.repository.BookRepository;
+import com.nookbook.domain.book.domain.repository.BookSummary;
+import com.nookbook.domain.book.dto.response.SimilarBookRes;
+import com.nookbook.domain.book.infrastructure.recommendation.SimilarBookIndex;
+import com.nookbook.global.payload.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 유사 도서 조회 (유사도는 메모리 색인, 도서 정보는 IN 쿼리 한 번)
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SimilarBookService {
+
+    private static final int MAX_SIZE = 20;
+
+    private final SimilarBookIndex similarBookIndex;
+    private final BookRepository bookRepository;
+
+    public ResponseEntity<?> getSimilarBooks(Long bookId, int size) {
+        List<SimilarBookIndex.SimilarBook> similarBooks = similarBookIndex.similar(bookId, Math.min(size, MAX_SIZE));
+
+        List<SimilarBookRes> similarBookResList = new ArrayList<>(similarBooks.size());
+        if (!similarBooks.isEmpty()) {
+            List<Long> ids = similarBooks.stream().map(SimilarBookIndex.SimilarBook::bookId).collect(Collectors.toList());
+            Map<Long, BookSummary> books = bookRepository.findSummariesByBookIdIn(ids).stream()
+                    .collect(Collectors.toMap(BookSummary::getBookId, Function.identity()));
+            // 유사도 순서 유지
+            for (SimilarBookIndex.SimilarBook similarBook : similarBooks) {
+                BookSummary book = books.get(similarBook.bookId());
+                if (book == null) {
+                    continue;
+                }
+                similarBookResList.add(SimilarBookRes.builder()
+                        .bookId(book.getBookId())
+                        .isbn13(book.getIsbn())
+                        .title(book.getTitle())
+                        .author(book.getAuthor())
+                        .cover(book.getImage())
+                        .score(similarBook.score())
+                        .build());
+            }
+        }
+
+        ApiResponse apiResponse = ApiResponse.builder()
+                .check(true)
+                .information(similarBookResList)
+                .build();
+        return ResponseEntity.ok(apiResponse);
+    }
+}
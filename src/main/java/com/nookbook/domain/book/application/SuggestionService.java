@@ -0,0 +1,29 @@
+package com.nookbook.domain.book.application;
+
+import com.nookbook.domain.book.infrastructure.search.SuggestionIndex;
+import com.nookbook.global.payload.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+// 검색어 자동완성 (메모리 색인만 사용하므로 트랜잭션 없음)
+@Service
+@RequiredArgsConstructor
+public class SuggestionService {
+
+    private static final int MAX_SIZE = 20;
+
+    private final SuggestionIndex suggestionIndex;
+
+    public ResponseEntity<?> getSuggestions(String prefix, int size) {
+        List<String> suggestions = suggestionIndex.suggest(prefix, Math.min(size, MAX_SIZE));
+
+        ApiResponse apiResponse = ApiResponse.builder()
+                .check(true)
+                .information(suggestions)
+                .build();
+        return ResponseEntity.ok(apiResponse);
+    }
+}
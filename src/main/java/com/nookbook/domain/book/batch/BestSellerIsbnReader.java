@@ -0,0 +1,81 @@
+package com.nookbook.domain.book.batch;
+
+import com.nookbook.domain.book.application.BestSellerService;
+import com.nookbook.domain.book.domain.repository.BookRepository;
+import com.nookbook.domain.book.dto.response.BestSellerBookRes;
+import com.nookbook.domain.book.dto.response.BestSellerRes;
+import com.nookbook.domain.book.infrastructure.cache.BestSellerSnapshot.PageKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+
+import java.util.*;
+
+// 현재 베스트셀러 스냅샷의 ISBN 중 Book 테이블에 없는 것만 읽음
+// 이미 저장된 도서는 시작 시점마다 다시 걸러내므로, 재시작하면 남은 도서만 이어서 가져옴
+@Slf4j
+public class BestSellerIsbnReader implements ItemStreamReader<String> {
+
+    // IN 절 하나에 넣을 최대 ISBN 수
+    private static final int IN_QUERY_SIZE = 1_000;
+
+    private final BestSellerService bestSellerService;
+    private final BookRepository bookRepository;
+    private final int maxItems;
+
+    private Iterator<String> isbns = Collections.emptyIterator();
+
+    public BestSellerIsbnReader(BestSellerService bestSellerService, BookRepository bookRepository, int maxItems) {
+        this.bestSellerService = bestSellerService;
+        this.bookRepository = bookRepository;
+        this.maxItems = maxItems;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        List<String> candidates = rankedIsbns();
+        List<String> missing = new ArrayList<>();
+        for (int from = 0; from < candidates.size() && missing.size() < maxItems; from += IN_QUERY_SIZE) {
+            List<String> batch = candidates.subList(from, Math.min(from + IN_QUERY_SIZE, candidates.size()));
+            Set<String> existing = new HashSet<>(bookRepository.findExistingIsbns(batch));
+            for (String isbn : batch) {
+                if (!existing.contains(isbn) && missing.size() < maxItems) {
+                    missing.add(isbn);
+                }
+            }
+        }
+        // 진행 상황은 배치 메타데이터(BATCH_STEP_EXECUTION_CONTEXT)로 확인
+        executionContext.putInt("bestSellerIsbns", candidates.size());
+        executionContext.putInt("missingIsbns", missing.size());
+        log.info("베스트셀러 도서 가져오기 대상 - 전체: {}, 미저장: {}", candidates.size(), missing.size());
+        isbns = missing.iterator();
+    }
+
+    @Override
+    public String read() {
+        return isbns.hasNext() ? isbns.next() : null;
+    }
+
+    // 상위 페이지, 높은 순위부터 (한 번에 가져올 수 있는 수가 제한되므로)
+    private List<String> rankedIsbns() {
+        Map<PageKey, BestSellerRes> pages = bestSellerService.getSnapshot().getPages();
+        List<PageKey> keys = new ArrayList<>(pages.keySet());
+        keys.sort(Comparator.comparingInt(PageKey::page).thenComparingInt(PageKey::category));
+
+        List<BestSellerBookRes> items = new ArrayList<>();
+        for (PageKey key : keys) {
+            List<BestSellerBookRes> pageItems = pages.get(key).getItems();
+            if (pageItems != null) {
+                items.addAll(pageItems);
+            }
+        }
+        // 여러 카테고리에 함께 오른 도서는 한 번만
+        Set<String> ranked = new LinkedHashSet<>();
+        for (BestSellerBookRes item : items) {
+            if (item.getIsbn13() != null && !item.getIsbn13().isBlank()) {
+                ranked.add(item.getIsbn13());
+            }
+        }
+        return new ArrayList<>(ranked);
+    }
+}
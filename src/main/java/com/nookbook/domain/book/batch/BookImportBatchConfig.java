@@ -0,0 +1,72 @@
+package com.nookbook.domain.book.batch;
+
+import com.nookbook.domain.book.application.BestSellerService;
+import com.nookbook.domain.book.domain.repository.BookRepository;
+import com.nookbook.domain.book.infrastructure.aladin.AladinService;
+import com.nookbook.domain.book.infrastructure.search.LocalBookIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+// 베스트셀러 갱신 후, 아직 저장되지 않은 베스트셀러 도서의 상세 정보를 미리 가져와 저장
+// 첫 상세 조회 사용자가 알라딘 조회 + 저장을 기다리지 않도록 함
+@Configuration
+@RequiredArgsConstructor
+public class BookImportBatchConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final BestSellerService bestSellerService;
+    private final BookRepository bookRepository;
+    private final AladinService aladinService;
+    private final JdbcTemplate jdbcTemplate;
+    private final LocalBookIndex localBookIndex;
+
+    @Value("${bestseller.import.chunk-size:20}")
+    private int chunkSize;
+
+    @Value("${bestseller.import.concurrency:4}")
+    private int concurrency;
+
+    // 한 번에 가져올 최대 도서 수 (알라딘 일일 호출 한도 보호)
+    @Value("${bestseller.import.max-items:300}")
+    private int maxItems;
+
+    @Bean
+    public Job bookImportJob() {
+        return new JobBuilder("bookImportJob", jobRepository)
+                .start(bookImportStep())
+                .build();
+    }
+
+    @Bean
+    public Step bookImportStep() {
+        return new StepBuilder("bookImportStep", jobRepository)
+                .<String, String>chunk(chunkSize, transactionManager)
+                .reader(bestSellerIsbnReader())
+                .writer(bookImportWriter())
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public ItemStreamReader<String> bestSellerIsbnReader() {
+        return new BestSellerIsbnReader(bestSellerService, bookRepository, maxItems);
+    }
+
+    @Bean
+    public ItemWriter<String> bookImportWriter() {
+        return new BookImportWriter(aladinService, jdbcTemplate, localBookIndex, concurrency);
+    }
+}
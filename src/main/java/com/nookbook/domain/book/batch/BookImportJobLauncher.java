@@ -0,0 +1,44 @@
+package com.nookbook.domain.book.batch;
+
+import com.nookbook.domain.book.infrastructure.cache.BestSellerSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneId;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookImportJobLauncher {
+
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+
+    private final JobLauncher jobLauncher;
+    private final Job bookImportJob;
+
+    // 스냅샷 갱신 시각을 job 파라미터로 사용
+    // 같은 스냅샷에 대해 다시 실행하면 실패했던 job을 이어서 실행(restart)하고, 이미 완료된 경우 실행하지 않음
+    public void launch(BestSellerSnapshot snapshot) {
+        if (snapshot.isEmpty() || snapshot.getRefreshedAt() == null) {
+            return;
+        }
+        try {
+            JobParameters jobParameters = new JobParametersBuilder()
+                    .addLong("snapshot", snapshot.getRefreshedAt().atZone(ZONE_ID).toInstant().toEpochMilli())
+                    .toJobParameters();
+            JobExecution execution = jobLauncher.run(bookImportJob, jobParameters);
+            log.info("베스트셀러 도서 가져오기 Job 실행 완료 - status: {}", execution.getStatus());
+        } catch (JobInstanceAlreadyCompleteException e) {
+            log.info("베스트셀러 도서 가져오기 Job 이미 완료된 스냅샷 - {}", snapshot.getRefreshedAt());
+        } catch (Exception e) {
+            log.error("베스트셀러 도서 가져오기 Job 실행 실패", e);
+        }
+    }
+}
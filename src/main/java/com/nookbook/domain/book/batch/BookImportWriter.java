@@ -0,0 +1,103 @@
+package com.nookbook.domain.book.batch;
+
+import com.nookbook.domain.book.domain.Book;
+import com.nookbook.domain.book.dto.response.BookDetailRes;
+import com.nookbook.domain.book.infrastructure.aladin.AladinService;
+import com.nookbook.domain.book.infrastructure.search.LocalBookIndex;
+import com.nookbook.global.util.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+// chunk 단위로 알라딘 상세 정보를 동시에 조회한 뒤 JDBC batch insert로 한 번에 저장
+// 사용자 조회로 먼저 저장된 도서는 INSERT IGNORE로 건너뜀
+@Slf4j
+public class BookImportWriter implements ItemWriter<String> {
+
+    private static final String INSERT_SQL = "INSERT IGNORE INTO book " +
+            "(title, author, publisher, page, isbn, published_date, info, idx, category, image, link) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final AladinService aladinService;
+    private final JdbcTemplate jdbcTemplate;
+    private final LocalBookIndex localBookIndex;
+    private final int concurrency;
+
+    public BookImportWriter(AladinService aladinService, JdbcTemplate jdbcTemplate, LocalBookIndex localBookIndex, int concurrency) {
+        this.aladinService = aladinService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.localBookIndex = localBookIndex;
+        this.concurrency = concurrency;
+    }
+
+    @Override
+    public void write(Chunk<? extends String> chunk) {
+        // 개별 조회 실패(없는 ISBN, 호출 한도 등)는 건너뛰고 다음 실행에서 다시 시도
+        // 사용자 상세 조회(LOOKUP)와 분리된 가장 낮은 우선순위 호출 유형(IMPORT) 사용
+        List<BookDetailRes> details = Flux.fromIterable(chunk.getItems())
+                .flatMap(isbn -> aladinService.callAladinBookDetailForImport(isbn)
+                        .onErrorResume(e -> {
+                            log.warn("베스트셀러 도서 정보 조회 실패 - isbn: {}, cause: {}", isbn, e.getMessage());
+                            return Mono.empty();
+                        }), concurrency)
+                // 출간일을 해석할 수 없는 도서는 저장하지 않음 (상세 조회 시 사용자 요청에서 저장)
+                .filter(detail -> {
+                    if (parseDate(detail.getPubDate()) != null) {
+                        return true;
+                    }
+                    log.warn("베스트셀러 도서 출간일 형식 오류 - isbn: {}, pubDate: {}", detail.getIsbn13(), detail.getPubDate());
+                    return false;
+                })
+                .collectList()
+                .block();
+        if (details == null || details.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, details, details.size(), (ps, detail) -> {
+            ps.setString(1, detail.getTitle());
+            ps.setString(2, detail.getAuthor());
+            ps.setString(3, detail.getPublisher());
+            ps.setInt(4, detail.getPage());
+            ps.setString(5, detail.getIsbn13());
+            ps.setDate(6, Date.valueOf(parseDate(detail.getPubDate())));
+            ps.setString(7, detail.getDescription());
+            ps.setString(8, detail.getToc());
+            ps.setString(9, detail.getCategory());
+            ps.setString(10, detail.getCover());
+            ps.setString(11, detail.getLink());
+        });
+
+        // chunk가 롤백되면 저장되지 않은 도서가 색인에 남지 않도록 커밋 후 색인
+        List<Book> books = details.stream().map(this::toBook).toList();
+        TransactionCallbacks.afterCommit(() -> books.forEach(localBookIndex::add));
+    }
+
+    private Book toBook(BookDetailRes detail) {
+        return Book.builder()
+                .title(detail.getTitle())
+                .author(detail.getAuthor())
+                .publisher(detail.getPublisher())
+                .isbn(detail.getIsbn13())
+                .category(detail.getCategory())
+                .image(detail.getCover())
+                .publishedDate(parseDate(detail.getPubDate()))
+                .build();
+    }
+
+    private LocalDate parseDate(String value) {
+        try {
+            return value == null ? null : LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.nookbook.domain.book.batch;
+
+import com.nookbook.domain.book.infrastructure.recommendation.RecommendationProperties;
+import com.nookbook.domain.book.infrastructure.recommendation.SimilarBookIndex;
+import com.nookbook.domain.book.infrastructure.recommendation.SimilarBooks;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.JobScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+
+// 함께 읽은/담은 사용자 수 기반 유사 도서("이 책을 읽은 사용자가 함께 읽은 책") 계산
+// 1. coOccurrenceStep: 읽은 도서(user_book READ) + 컬렉션에 담은 도서를 사용자 순으로 읽어 도서 쌍 수를 집계
+// 2. similarBookPublishStep: 도서별 top-K를 만들어 메모리 색인을 교체
+@Configuration
+@RequiredArgsConstructor
+public class BookSimilarityBatchConfig {
+
+    // 두 출처의 같은 (사용자, 도서)는 UNION으로 제거하고, 사용자별로 모아서 처리할 수 있도록 정렬
+    private static final String USER_BOOK_SQL =
+            "SELECT user_id, book_id FROM user_book WHERE book_status = 'READ' AND book_id IS NOT NULL " +
+            "UNION " +
+            "SELECT c.user_id, cb.book_id FROM collection_book cb JOIN collection c ON c.collection_id = cb.collection_id " +
+            "WHERE cb.book_id IS NOT NULL " +
+            "ORDER BY user_id";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final DataSource dataSource;
+    private final RecommendationProperties properties;
+    private final SimilarBookIndex similarBookIndex;
+
+    @Bean
+    public Job bookSimilarityJob() {
+        return new JobBuilder("bookSimilarityJob", jobRepository)
+                .start(coOccurrenceStep())
+                .next(similarBookPublishStep())
+                .build();
+    }
+
+    @Bean
+    public Step coOccurrenceStep() {
+        return new StepBuilder("coOccurrenceStep", jobRepository)
+                .<UserBookPair, UserBookPair>chunk(properties.getChunkSize(), transactionManager)
+                .reader(userBookPairReader())
+                .writer(coOccurrenceWriter())
+                .build();
+    }
+
+    @Bean
+    public Step similarBookPublishStep() {
+        return new StepBuilder("similarBookPublishStep", jobRepository)
+                .tasklet(similarBookPublishTasklet(), transactionManager)
+                .build();
+    }
+
+    // 행 단위로 스트리밍 (MySQL 드라이버는 fetchSize가 Integer.MIN_VALUE일 때 결과를 한 번에 메모리에 올리지 않음)
+    // 집계는 메모리에서 진행되므로 중간부터 재시작하지 않음 (saveState = false)
+    @Bean
+    public JdbcCursorItemReader<UserBookPair> userBookPairReader() {
+        return new JdbcCursorItemReaderBuilder<UserBookPair>()
+                .name("userBookPairReader")
+                .dataSource(dataSource)
+                .sql(USER_BOOK_SQL)
+                .fetchSize(Integer.MIN_VALUE)
+                .verifyCursorPosition(false)
+                .saveState(false)
+                .rowMapper((rs, rowNum) -> new UserBookPair(rs.getLong(1), rs.getLong(2)))
+                .build();
+    }
+
+    @Bean
+    public ItemWriter<UserBookPair> coOccurrenceWriter() {
+        CoOccurrenceCounter counter = coOccurrenceCounter();
+        return chunk -> {
+            for (UserBookPair pair : chunk) {
+                counter.accept(pair.userId(), pair.bookId());
+            }
+        };
+    }
+
+    @Bean
+    public Tasklet similarBookPublishTasklet() {
+        CoOccurrenceCounter counter = coOccurrenceCounter();
+        return (contribution, chunkContext) -> {
+            SimilarBooks similarBooks = counter.finish();
+            similarBookIndex.publish(similarBooks);
+            chunkContext.getStepContext().getStepExecution().getExecutionContext().putInt("books", similarBooks.size());
+            chunkContext.getStepContext().getStepExecution().getExecutionContext().putInt("neighbours", similarBooks.neighbourCount());
+            return RepeatStatus.FINISHED;
+        };
+    }
+
+    // Job 실행마다 새로 만들어지고, 실행이 끝나면 집계 메모리도 함께 해제됨
+    @Bean
+    @JobScope
+    public CoOccurrenceCounter coOccurrenceCounter() {
+        return new CoOccurrenceCounter(properties);
+    }
+}
@@ -0,0 +1,46 @@
+package com.nookbook.domain.book.batch;
+
+import com.nookbook.domain.book.infrastructure.recommendation.RecommendationProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookSimilarityJobLauncher {
+
+    private final JobLauncher jobLauncher;
+    private final Job bookSimilarityJob;
+    private final RecommendationProperties properties;
+
+    // 유사 도서 색인은 메모리에만 있으므로 기동 후 백그라운드에서 한 번 계산
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildInitialIndex() {
+        runBatchJob();
+    }
+
+    @Scheduled(cron = "0 30 3 * * *") // 매일 03:30 실행
+    public void runBatchJob() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            JobParameters jobParameters = new JobParametersBuilder()
+                    .addString("timestamp", String.valueOf(System.currentTimeMillis()))
+                    .toJobParameters();
+            jobLauncher.run(bookSimilarityJob, jobParameters);
+        } catch (Exception e) {
+            log.error("유사 도서 계산 Job 실행 실패", e);
+        }
+    }
+}
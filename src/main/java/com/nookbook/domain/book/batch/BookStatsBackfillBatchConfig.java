@@ -0,0 +1,54 @@
+package com.nookbook.domain.book.batch;
+
+import com.nookbook.domain.book.domain.repository.BookStatsRepository;
+import com.nookbook.domain.book.infrastructure.stats.BookStatsCounter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+// book_stats 도입 전 데이터(User_Book, CollectionBook, Timer)로 도서 인기 지표 초기값을 채우는 Job
+// 메모리에 쌓인 증감분을 먼저 반영한 뒤, 원본 테이블 개수로 덮어씀 (이미 반영된 증감분도 원본 개수에 포함되어 있음)
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class BookStatsBackfillBatchConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final BookStatsRepository bookStatsRepository;
+    private final BookStatsCounter bookStatsCounter;
+
+    @Bean
+    public Job bookStatsBackfillJob() {
+        return new JobBuilder("bookStatsBackfillJob", jobRepository)
+                .start(bookStatsBackfillStep())
+                .build();
+    }
+
+    @Bean
+    public Step bookStatsBackfillStep() {
+        return new StepBuilder("bookStatsBackfillStep", jobRepository)
+                .tasklet(bookStatsBackfillTasklet(), transactionManager)
+                .build();
+    }
+
+    @Bean
+    public Tasklet bookStatsBackfillTasklet() {
+        return (contribution, chunkContext) -> {
+            bookStatsCounter.flush();
+            int updated = bookStatsRepository.backfill();
+            contribution.incrementWriteCount(updated);
+            log.info("도서 인기 지표 초기화 - {}건", updated);
+            return RepeatStatus.FINISHED;
+        };
+    }
+}
@@ -0,0 +1,342 @@
+package com.nookbook.domain.book.batch;
+
+import com.nookbook.domain.book.infrastructure.recommendation.LongIntHashMap;
+import com.nookbook.domain.book.infrastructure.recommendation.RecommendationProperties;
+import com.nookbook.domain.book.infrastructure.recommendation.SimilarBooks;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+
+// 사용자 순으로 정렬된 (사용자, 도서) 행을 받아, 같은 사용자가 함께 읽은/담은 도서 쌍의 수를 집계
+// 쌍은 (도서 a << 32 | 도서 b) long key로 LongIntHashMap에 양방향 모두 저장
+// 메모리 상한을 넘으면 key 순으로 정렬해 임시 파일로 내려 쓰고, 마지막에 k-way merge로 합산하면서
+// 같은 도서 a의 쌍이 연속으로 나오므로 도서별 top-K만 남김 (전체 행렬을 메모리에 올리지 않음)
+@Slf4j
+public class CoOccurrenceCounter {
+
+    private static final long MAX_BOOK_ID = Integer.MAX_VALUE;
+    private static final int INITIAL_PAIRS = 1 << 16;
+
+    private final RecommendationProperties properties;
+    private final LongIntHashMap pairCounts = new LongIntHashMap(INITIAL_PAIRS);
+    // 도서별 사용자 수 (유사도 정규화용)
+    private final LongIntHashMap bookDegrees = new LongIntHashMap(INITIAL_PAIRS);
+    private final List<Path> spillFiles = new ArrayList<>();
+
+    private long currentUserId = -1;
+    private long[] basket = new long[64];
+    private int basketSize;
+
+    public CoOccurrenceCounter(RecommendationProperties properties) {
+        this.properties = properties;
+    }
+
+    public void accept(long userId, long bookId) {
+        // key에 32bit씩 담을 수 없는 id는 제외
+        if (bookId <= 0 || bookId > MAX_BOOK_ID) {
+            return;
+        }
+        if (userId != currentUserId) {
+            flushBasket();
+            currentUserId = userId;
+        }
+        if (basketSize == basket.length) {
+            basket = Arrays.copyOf(basket, basketSize << 1);
+        }
+        basket[basketSize++] = bookId;
+    }
+
+    // 남은 집계를 합산해 도서별 유사 도서 top-K를 만듦
+    public SimilarBooks finish() {
+        flushBasket();
+        List<PairCursor> cursors = new ArrayList<>(spillFiles.size() + 1);
+        try {
+            cursors.add(new MemoryCursor(pairCounts));
+            for (Path spillFile : spillFiles) {
+                cursors.add(new FileCursor(spillFile));
+            }
+            SimilarBooks similarBooks = merge(cursors);
+            log.info("도서 동시 출현 집계 완료 - 임시 파일: {}, 도서: {}, 관계: {}",
+                    spillFiles.size(), similarBooks.size(), similarBooks.neighbourCount());
+            return similarBooks;
+        } catch (IOException e) {
+            throw new UncheckedIOException("도서 동시 출현 집계 실패: " + e.getMessage(), e);
+        } finally {
+            for (PairCursor cursor : cursors) {
+                closeQuietly(cursor);
+            }
+            deleteSpillFiles();
+        }
+    }
+
+    private void flushBasket() {
+        if (basketSize == 0) {
+            return;
+        }
+        // 읽은 도서와 컬렉션에 담은 도서가 겹칠 수 있으므로 중복 제거
+        Arrays.sort(basket, 0, basketSize);
+        int unique = 0;
+        for (int i = 0; i < basketSize; i++) {
+            if (unique == 0 || basket[unique - 1] != basket[i]) {
+                basket[unique++] = basket[i];
+            }
+        }
+        int size = Math.min(unique, properties.getMaxBasketSize());
+        if (size < unique) {
+            sample(unique, size);
+        }
+        for (int i = 0; i < size; i++) {
+            bookDegrees.addTo(basket[i], 1);
+        }
+        for (int i = 0; i < size; i++) {
+            long a = basket[i];
+            for (int j = i + 1; j < size; j++) {
+                long b = basket[j];
+                pairCounts.addTo(a << 32 | b, 1);
+                pairCounts.addTo(b << 32 | a, 1);
+                if (pairCounts.size() >= properties.getMaxPairsInMemory()) {
+                    spill();
+                }
+            }
+        }
+        basketSize = 0;
+    }
+
+    // 상한을 넘는 장바구니는 앞의 size개를 무작위로 골라 채움 (id 순으로 자르면 오래된 도서에 치우침)
+    // 같은 사용자는 재실행해도 같은 도서를 고르도록 사용자 id를 시드로 사용
+    private void sample(int unique, int size) {
+        SplittableRandom random = new SplittableRandom(currentUserId);
+        for (int i = 0; i < size; i++) {
+            int j = i + random.nextInt(unique - i);
+            long picked = basket[j];
+            basket[j] = basket[i];
+            basket[i] = picked;
+        }
+    }
+
+    private void spill() {
+        try {
+            Path directory = properties.getSpillDirectory() != null
+                    ? Path.of(properties.getSpillDirectory())
+                    : Path.of(System.getProperty("java.io.tmpdir"));
+            Files.createDirectories(directory);
+            Path spillFile = Files.createTempFile(directory, "co-occurrence", ".bin");
+            spillFiles.add(spillFile);
+            long[] keys = pairCounts.sortedKeys();
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(spillFile), 1 << 16))) {
+                out.writeInt(keys.length);
+                for (long key : keys) {
+                    out.writeLong(key);
+                    out.writeInt(pairCounts.get(key));
+                }
+            }
+            log.info("도서 동시 출현 집계 임시 파일 저장 - {} ({}쌍)", spillFile, keys.length);
+            pairCounts.clear();
+        } catch (IOException e) {
+            throw new UncheckedIOException("도서 동시 출현 임시 파일 저장 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private SimilarBooks merge(List<PairCursor> cursors) throws IOException {
+        PriorityQueue<PairCursor> queue = new PriorityQueue<>(Comparator.comparingLong(PairCursor::key));
+        for (PairCursor cursor : cursors) {
+            advance(cursor, queue);
+        }
+        SimilarBooks.Builder builder = new SimilarBooks.Builder();
+        TopK topK = new TopK(properties.getTopK());
+        long currentBookId = -1;
+        while (!queue.isEmpty()) {
+            PairCursor cursor = queue.poll();
+            long key = cursor.key();
+            int count = cursor.count();
+            advance(cursor, queue);
+            // 여러 임시 파일에 나뉘어 있는 같은 쌍을 합산
+            while (!queue.isEmpty() && queue.peek().key() == key) {
+                PairCursor same = queue.poll();
+                count += same.count();
+                advance(same, queue);
+            }
+            long bookId = key >>> 32;
+            long neighbourId = key & 0xFFFFFFFFL;
+            if (bookId != currentBookId) {
+                topK.drainTo(builder, currentBookId);
+                currentBookId = bookId;
+            }
+            if (count >= properties.getMinCoOccurrence()) {
+                topK.offer(neighbourId, score(count, bookId, neighbourId));
+            }
+        }
+        topK.drainTo(builder, currentBookId);
+        return builder.build();
+    }
+
+    // 코사인 유사도: 함께 읽은 사용자 수 / sqrt(a를 읽은 사용자 수 * b를 읽은 사용자 수)
+    private float score(int count, long bookId, long neighbourId) {
+        double degrees = (double) bookDegrees.get(bookId) * bookDegrees.get(neighbourId);
+        return degrees == 0 ? 0f : (float) (count / Math.sqrt(degrees));
+    }
+
+    private void advance(PairCursor cursor, PriorityQueue<PairCursor> queue) throws IOException {
+        if (cursor.next()) {
+            queue.add(cursor);
+        }
+    }
+
+    private void deleteSpillFiles() {
+        for (Path spillFile : spillFiles) {
+            try {
+                Files.deleteIfExists(spillFile);
+            } catch (IOException e) {
+                log.warn("도서 동시 출현 임시 파일 삭제 실패 - {}: {}", spillFile, e.getMessage());
+            }
+        }
+        spillFiles.clear();
+    }
+
+    private void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            log.warn("임시 파일 닫기 실패: {}", e.getMessage());
+        }
+    }
+
+    // 도서 하나의 유사 도서 중 점수 상위 K개 (K가 작으므로 배열 선형 탐색)
+    private static class TopK {
+
+        private final long[] ids;
+        private final float[] scores;
+        private int size;
+
+        TopK(int k) {
+            this.ids = new long[k];
+            this.scores = new float[k];
+        }
+
+        void offer(long id, float score) {
+            if (size < ids.length) {
+                ids[size] = id;
+                scores[size++] = score;
+                return;
+            }
+            int min = 0;
+            for (int i = 1; i < size; i++) {
+                if (scores[i] < scores[min]) {
+                    min = i;
+                }
+            }
+            if (score > scores[min]) {
+                ids[min] = id;
+                scores[min] = score;
+            }
+        }
+
+        void drainTo(SimilarBooks.Builder builder, long bookId) {
+            if (size == 0) {
+                return;
+            }
+            // 점수 내림차순 (삽입 정렬)
+            for (int i = 1; i < size; i++) {
+                long id = ids[i];
+                float score = scores[i];
+                int j = i - 1;
+                while (j >= 0 && scores[j] < score) {
+                    ids[j + 1] = ids[j];
+                    scores[j + 1] = scores[j];
+                    j--;
+                }
+                ids[j + 1] = id;
+                scores[j + 1] = score;
+            }
+            builder.add(bookId, ids, scores, size);
+            size = 0;
+        }
+    }
+
+    private interface PairCursor extends Closeable {
+
+        boolean next() throws IOException;
+
+        long key();
+
+        int count();
+    }
+
+    private static class MemoryCursor implements PairCursor {
+
+        private final LongIntHashMap counts;
+        private final long[] keys;
+        private int position = -1;
+
+        MemoryCursor(LongIntHashMap counts) {
+            this.counts = counts;
+            this.keys = counts.sortedKeys();
+        }
+
+        @Override
+        public boolean next() {
+            return ++position < keys.length;
+        }
+
+        @Override
+        public long key() {
+            return keys[position];
+        }
+
+        @Override
+        public int count() {
+            return counts.get(keys[position]);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static class FileCursor implements PairCursor {
+
+        private final DataInputStream in;
+        private int remaining;
+        private long key;
+        private int count;
+
+        FileCursor(Path file) throws IOException {
+            this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16));
+            this.remaining = in.readInt();
+        }
+
+        @Override
+        public boolean next() throws IOException {
+            if (remaining == 0) {
+                return false;
+            }
+            remaining--;
+            key = in.readLong();
+            count = in.readInt();
+            return true;
+        }
+
+        @Override
+        public long key() {
+            return key;
+        }
+
+        @Override
+        public int count() {
+            return count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package com.nookbook.domain.book.batch;
+
+// 사용자가 읽었거나 컬렉션에 담은 도서
+public record UserBookPair(long userId, long bookId) {
+}
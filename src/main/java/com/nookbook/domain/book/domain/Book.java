@@ -37,9 +37,13 @@ public class Book {
     @Column(name = "publisher")
     private String publisher;
 
+    // 소개, 목차는 상세 조회에서만 사용하므로 지연 로딩 (목록 조회 시 TEXT 컬럼을 읽지 않음)
+    // 상세 조회는 BookContent로 따로 조회
+    @Basic(fetch = FetchType.LAZY)
     @Column(name="info", columnDefinition = "TEXT")
     private String info;
 
+    @Basic(fetch = FetchType.LAZY)
     @Column(name="idx", columnDefinition = "TEXT")
     private String idx;
 
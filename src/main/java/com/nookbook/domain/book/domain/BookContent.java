@@ -0,0 +1,9 @@
+package com.nookbook.domain.book.domain;
+
+// Book의 TEXT 컬럼(소개, 목차)만 따로 조회할 때 사용
+public record BookContent(String info, String idx) {
+
+    public static BookContent empty() {
+        return new BookContent(null, null);
+    }
+}
@@ -0,0 +1,40 @@
+package com.nookbook.domain.book.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 도서별 인기 지표 (User_Book, CollectionBook을 COUNT 하지 않고 조회하기 위함)
+// BookStatsCounter가 메모리에 모은 증감분을 주기적으로 더함
+@Entity
+@Table(name = "book_stats", indexes = @Index(name = "idx_book_stats_trending_score", columnList = "trending_score"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BookStats {
+
+    @Id
+    @Column(name = "book_id", updatable = false, nullable = false)
+    private Long bookId;
+
+    // 다 읽은 사용자 수
+    @Column(name = "read_count", nullable = false)
+    private long readCount;
+
+    // 컬렉션에 담긴 수
+    @Column(name = "collection_count", nullable = false)
+    private long collectionCount;
+
+    // 타이머 시작 수 (누적)
+    @Column(name = "timer_start_count", nullable = false)
+    private long timerStartCount;
+
+    // 최근 활동일수록 큰 가중치를 더한 점수 (BookStatsCounter.trendingWeight 참고)
+    @Column(name = "trending_score", nullable = false)
+    private double trendingScore;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
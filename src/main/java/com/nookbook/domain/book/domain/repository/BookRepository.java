@@ -1,9 +1,14 @@
 package com.nookbook.domain.book.domain.repository;
 
 import com.nookbook.domain.book.domain.Book;
+import com.nookbook.domain.book.domain.BookContent;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +16,28 @@ public interface BookRepository extends JpaRepository<Book, Long> {
     boolean existsByIsbn(String isbn);
 
     Optional<Book> findByIsbn(String isbn);
+
+    // 주어진 ISBN 중 이미 저장된 것 (베스트셀러 도서 가져오기 대상 선별용)
+    @Query("SELECT b.isbn FROM Book b WHERE b.isbn IN :isbns")
+    List<String> findExistingIsbns(Collection<String> isbns);
+
+    List<Book> findByIsbnIn(Collection<String> isbns);
+
+    @Query("SELECT b.bookId AS bookId, b.isbn AS isbn, b.title AS title, b.author AS author, b.publisher AS publisher, b.image AS image " +
+            "FROM Book b WHERE b.bookId IN :bookIds")
+    List<BookSummary> findSummariesByBookIdIn(Collection<Long> bookIds);
+
+    @Query("SELECT b.isbn AS isbn, b.info AS info, b.idx AS idx FROM Book b WHERE b.isbn IN :isbns")
+    List<IsbnContent> findContentsByIsbnIn(Collection<String> isbns);
+
+    @Query("SELECT new com.nookbook.domain.book.domain.BookContent(b.info, b.idx) FROM Book b WHERE b.bookId = :bookId")
+    Optional<BookContent> findContentByBookId(Long bookId);
+
+    // id 기준 keyset 페이징 (로컬 검색 색인 재생성용)
+    List<Book> findByBookIdGreaterThanOrderByBookIdAsc(Long bookId, Pageable pageable);
+
+    // 도서 제목별 서재에 담은 사용자 수 (검색어 추천 색인용)
+    @Query("SELECT b.title AS term, COUNT(ub) AS frequency FROM Book b LEFT JOIN UserBook ub ON ub.book = b " +
+            "WHERE b.title IS NOT NULL GROUP BY b.title")
+    List<TermFrequency> countReadersByTitle();
 }
@@ -0,0 +1,33 @@
+package com.nookbook.domain.book.domain.repository;
+
+import com.nookbook.domain.book.domain.BookStats;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BookStatsRepository extends JpaRepository<BookStats, Long> {
+
+    // trending_score 인덱스 순으로 상위 N개만 읽음
+    @Query("SELECT b.bookId AS bookId, b.isbn AS isbn, b.title AS title, b.author AS author, b.image AS image, " +
+            "s.readCount AS readCount, s.collectionCount AS collectionCount, s.timerStartCount AS timerStartCount " +
+            "FROM BookStats s JOIN Book b ON b.bookId = s.bookId WHERE s.trendingScore > 0 ORDER BY s.trendingScore DESC")
+    List<TrendingBook> findTrending(Pageable pageable);
+
+    // book_stats 도입 전 데이터로 초기값을 채움 (BookStatsBackfillBatchConfig에서 한 번만 실행)
+    // 먼저 반영된 증감분이 있는 행도 원본 테이블 개수로 덮어씀 (인기 점수는 유지)
+    @Modifying
+    @Query(value = "INSERT INTO book_stats (book_id, read_count, collection_count, timer_start_count, trending_score, updated_at) " +
+            "SELECT * FROM (SELECT b.book_id, " +
+            "(SELECT COUNT(*) FROM user_book ub WHERE ub.book_id = b.book_id AND ub.book_status = 'READ') AS read_count, " +
+            "(SELECT COUNT(*) FROM collection_book cb WHERE cb.book_id = b.book_id) AS collection_count, " +
+            "(SELECT COUNT(*) FROM timer t JOIN user_book ub ON ub.user_book_id = t.user_book_id WHERE ub.book_id = b.book_id) AS timer_start_count, " +
+            "0 AS trending_score, NOW() AS updated_at FROM book b) s " +
+            "ON DUPLICATE KEY UPDATE read_count = VALUES(read_count), collection_count = VALUES(collection_count), " +
+            "timer_start_count = VALUES(timer_start_count), updated_at = NOW()", nativeQuery = true)
+    int backfill();
+}
@@ -0,0 +1,17 @@
+package com.nookbook.domain.book.domain.repository;
+
+// 목록 조회용 도서 프로젝션 (TEXT 컬럼 제외)
+public interface BookSummary {
+
+    Long getBookId();
+
+    String getIsbn();
+
+    String getTitle();
+
+    String getAuthor();
+
+    String getPublisher();
+
+    String getImage();
+}
@@ -0,0 +1,11 @@
+package com.nookbook.domain.book.domain.repository;
+
+// 여러 도서의 소개/목차를 IN 쿼리 한 번으로 조회할 때 사용하는 프로젝션
+public interface IsbnContent {
+
+    String getIsbn();
+
+    String getInfo();
+
+    String getIdx();
+}
@@ -0,0 +1,9 @@
+package com.nookbook.domain.book.domain.repository;
+
+// 검색어 추천 색인 생성용 (단어, 빈도) 프로젝션
+public interface TermFrequency {
+
+    String getTerm();
+
+    long getFrequency();
+}
@@ -0,0 +1,21 @@
+package com.nookbook.domain.book.domain.repository;
+
+// 인기 도서 목록용 프로젝션
+public interface TrendingBook {
+
+    Long getBookId();
+
+    String getIsbn();
+
+    String getTitle();
+
+    String getAuthor();
+
+    String getImage();
+
+    long getReadCount();
+
+    long getCollectionCount();
+
+    long getTimerStartCount();
+}
@@ -34,4 +34,16 @@ public class BestSellerBookRes {
     @JsonProperty("bestRank")
     @Schema(type = "int", example = "1", description = "도서의 베스트셀러 순위")
     private int bestRank;
+
+    // 아래 두 필드는 알라딘 응답이 아닌 누크북 순위 기록으로 채움 (전날 기록이 없으면 null)
+    @Schema(type = "String", example = "UP", description = "전날 대비 순위 변동. NEW(새로 진입), UP(상승), DOWN(하락), SAME(유지)")
+    private RankChange rankChange;
+
+    @Schema(type = "int", example = "3", description = "전날 대비 변동한 순위 수 (상승/하락 모두 양수, NEW/SAME은 0)")
+    private Integer rankDelta;
+
+    // 순위 변동을 채운 복사본 (캐시에 게시된 객체는 여러 요청이 함께 읽으므로 수정하지 않음)
+    public BestSellerBookRes withRankChange(RankChange rankChange, Integer rankDelta) {
+        return new BestSellerBookRes(title, author, isbn13, cover, bestRank, rankChange, rankDelta);
+    }
 }
\ No newline at end of file
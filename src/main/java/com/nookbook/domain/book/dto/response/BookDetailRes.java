@@ -2,6 +2,7 @@ package com.nookbook.domain.book.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonSetter;
 import com.nookbook.domain.user_book.domain.BookStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -71,6 +72,15 @@ public class BookDetailRes {
         this.page = page;
     }
 
+    // 알라딘 응답의 subInfo(쪽수, 목차)는 역직렬화 시점에 바로 반영
+    @JsonSetter("subInfo")
+    private void setSubInfo(SubInfo subInfo) {
+        if (subInfo != null) {
+            this.page = subInfo.itemPage;
+            this.toc = subInfo.toc;
+        }
+    }
+
     public void formatCategoryName(String categoryName) {
         String[] parts = categoryName.split(">");
         if (parts.length > 1) {
@@ -79,4 +89,14 @@ public class BookDetailRes {
             this.category = "기타";
         }
     }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static class SubInfo {
+
+        @JsonProperty("itemPage")
+        private int itemPage;
+
+        @JsonProperty("toc")
+        private String toc;
+    }
 }
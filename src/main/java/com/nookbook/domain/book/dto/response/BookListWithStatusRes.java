@@ -0,0 +1,23 @@
+package com.nookbook.domain.book.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 검색/베스트셀러 결과 + 각 도서에 대한 사용자의 독서 상태
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookListWithStatusRes<T> {
+
+    @Schema(description = "검색 결과(SearchRes) 또는 베스트셀러 목록(BestSellerRes)")
+    private T books;
+
+    @Schema(description = "books의 도서 순서와 동일한 순서의 사용자 독서 상태 목록")
+    private List<BookUserStatusRes> userStatuses;
+}
@@ -38,4 +38,7 @@ public class BookRes {
     @Schema(type = "BookDetailRes", example = "BookDetailRes의 Schemas를 참고해주세요.", description = "조회한 도서의 상세 정보")
     private BookDetailRes item;
 
+    @Schema(type = "BookStatsRes", description = "도서의 인기 지표 (다 읽은 사용자 수, 컬렉션에 담긴 수, 타이머 시작 횟수)")
+    private BookStatsRes stats;
+
 }
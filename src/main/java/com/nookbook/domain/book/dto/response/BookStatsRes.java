@@ -0,0 +1,23 @@
+package com.nookbook.domain.book.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookStatsRes {
+
+    @Schema(type = "long", example = "12", description = "이 도서를 다 읽은 사용자 수")
+    private long readCount;
+
+    @Schema(type = "long", example = "30", description = "이 도서가 컬렉션에 담긴 수")
+    private long collectionCount;
+
+    @Schema(type = "long", example = "45", description = "이 도서로 타이머를 시작한 횟수")
+    private long timerStartCount;
+}
@@ -0,0 +1,32 @@
+package com.nookbook.domain.book.dto.response;
+
+import com.nookbook.domain.user_book.domain.BookStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookUserStatusRes {
+
+    @Schema(type = "String", example = "9788925514826", description = "도서의 isbn 13자리")
+    private String isbn13;
+
+    @Schema(type = "String", example = "BEFORE_READ", description = "도서의 읽음 상태. BEFORE_READ(읽기 전), READ(읽음)")
+    private BookStatus bookStatus;
+
+    @Schema(type = "boolean", example = "true", description = "도서의 컬렉션 저장 여부")
+    private boolean storedCollection;
+
+    @Schema(type = "array", example = "[1, 23, 43]", description = "컬렉션의 id 리스트")
+    private List<Long> collectionIds;
+
+    @Schema(type = "boolean", example = "true", description = "사용자의 해당 도서의 노트 존재 여부")
+    private boolean hasNote;
+}
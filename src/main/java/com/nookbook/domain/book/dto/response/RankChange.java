@@ -0,0 +1,15 @@
+package com.nookbook.domain.book.dto.response;
+
+// 전날 대비 베스트셀러 순위 변동
+public enum RankChange {
+
+    // 새로 진입
+    NEW,
+
+    UP,
+
+    DOWN,
+
+    SAME
+
+}
@@ -0,0 +1,10 @@
+package com.nookbook.domain.book.exception;
+
+import com.nookbook.global.exception.BusinessException;
+import com.nookbook.global.payload.ErrorCode;
+
+public class AladinRateLimitedException extends BusinessException {
+    public AladinRateLimitedException() {
+        super(ErrorCode.ALADIN_RATE_LIMITED);
+    }
+}
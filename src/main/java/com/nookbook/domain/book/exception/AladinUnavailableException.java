@@ -0,0 +1,10 @@
+package com.nookbook.domain.book.exception;
+
+import com.nookbook.global.exception.BusinessException;
+import com.nookbook.global.payload.ErrorCode;
+
+public class AladinUnavailableException extends BusinessException {
+    public AladinUnavailableException() {
+        super(ErrorCode.ALADIN_UNAVAILABLE);
+    }
+}
@@ -1,12 +1,15 @@
 package com.nookbook.domain.book.infrastructure;
 
 import com.nookbook.domain.book.application.BestSellerService;
+import com.nookbook.domain.book.batch.BookImportJobLauncher;
+import com.nookbook.domain.book.infrastructure.cache.BestSellerSnapshot;
+import com.nookbook.domain.book.infrastructure.cache.BestSellerSnapshotStore;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -18,27 +21,40 @@ import java.util.List;
 public class BestSellerScheduler {
 
     private final BestSellerService cacheService;
+    private final BestSellerSnapshotStore snapshotStore;
+    private final BookImportJobLauncher bookImportJobLauncher;
 
     private static final List<Integer> CATEGORIES = List.of(0, 1, 170, 336, 50940, 55889, 656, 55890, 2913);
 
+    // 웹 서버가 요청을 받기 전에 마지막 스냅샷 파일로 캐시를 채움 (알라딘 호출 없음)
+    @PostConstruct
+    public void loadSnapshotFile() {
+        long startedAt = System.currentTimeMillis();
+        snapshotStore.load().ifPresent(snapshot -> {
+            cacheService.publish(snapshot);
+            log.info("베스트셀러 스냅샷 파일 복원 - {}ms, 페이지: {}, 갱신 시각: {}",
+                    System.currentTimeMillis() - startedAt, snapshot.getPages().size(), snapshot.getRefreshedAt());
+        });
+    }
+
+    // 실제 갱신은 백그라운드에서 진행하여 기동 시간이 알라딘 응답 속도에 좌우되지 않도록 함
+    @Async
     @EventListener(ApplicationReadyEvent.class)
     public void loadInitialCache() {
-        retryableRefreshAll();
+        refreshAll();
     }
 
     @Scheduled(cron = "0 0 0 * * *")
     public void scheduledRefresh() {
         log.info("🔁 [Scheduler] refreshAll() 실행됨 - {}", System.currentTimeMillis());
-        retryableRefreshAll();
+        refreshAll();
     }
 
-    @Retryable(
-            value = { Exception.class },
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 5000)
-    )
-    public void retryableRefreshAll() {
-        cacheService.refreshAllCategoriesAndPages(10, CATEGORIES, 100);
+    // 페이지 단위 재시도 및 이전 스냅샷 대체는 BestSellerService에서 처리
+    public void refreshAll() {
+        BestSellerSnapshot snapshot = cacheService.refreshAllCategoriesAndPages(10, CATEGORIES, 100);
+        snapshotStore.save(snapshot);
+        // 새로 오른 베스트셀러 도서의 상세 정보를 미리 저장
+        bookImportJobLauncher.launch(snapshot);
     }
 }
-
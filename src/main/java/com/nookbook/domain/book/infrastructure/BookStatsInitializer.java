@@ -0,0 +1,40 @@
+package com.nookbook.domain.book.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookStatsInitializer {
+
+    private final JobLauncher jobLauncher;
+    private final Job bookStatsBackfillJob;
+
+    // book_stats 도입 직후 한 번만 기존 데이터로 채움 (이후에는 증감분만 반영)
+    // 고정 파라미터로 실행하므로 완료 여부가 Job 메타데이터에 남고, 실패했으면 다음 기동 때 다시 실행
+    // (테이블이 비어 있는지로 판단하면 초기화 전에 반영된 증감분 때문에 영영 건너뛸 수 있음)
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            JobExecution execution = jobLauncher.run(bookStatsBackfillJob, new JobParametersBuilder()
+                    .addString("run", "initial")
+                    .toJobParameters());
+            log.info("도서 인기 지표 초기화 Job 실행 완료 - status: {}", execution.getStatus());
+        } catch (JobInstanceAlreadyCompleteException e) {
+            log.debug("도서 인기 지표 초기화 Job 이미 완료됨");
+        } catch (Exception e) {
+            log.error("도서 인기 지표 초기화 실패: {}", e.getMessage(), e);
+        }
+    }
+}
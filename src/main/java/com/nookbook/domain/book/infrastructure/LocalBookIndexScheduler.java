@@ -0,0 +1,39 @@
+package com.nookbook.domain.book.infrastructure;
+
+import com.nookbook.domain.book.infrastructure.search.LocalBookIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LocalBookIndexScheduler {
+
+    private final LocalBookIndex localBookIndex;
+
+    // 기동 후 백그라운드에서 색인 (색인 전까지는 알라딘으로 검색)
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildInitialIndex() {
+        rebuild();
+    }
+
+    // 증분 색인에서 빠진 도서(다른 서버 인스턴스에서 저장된 도서 등)를 반영하기 위해 매일 재생성
+    @Scheduled(cron = "0 0 4 * * *")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    private void rebuild() {
+        try {
+            localBookIndex.rebuild();
+        } catch (RuntimeException e) {
+            log.error("로컬 검색 색인 재생성 실패: {}", e.getMessage(), e);
+        }
+    }
+}
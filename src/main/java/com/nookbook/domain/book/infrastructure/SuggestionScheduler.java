@@ -0,0 +1,38 @@
+package com.nookbook.domain.book.infrastructure;
+
+import com.nookbook.domain.book.infrastructure.search.SuggestionIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SuggestionScheduler {
+
+    private final SuggestionIndex suggestionIndex;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildInitialIndex() {
+        rebuild();
+    }
+
+    // 새 도서 / 검색어 반영을 위해 매시 정각에 재생성
+    @Scheduled(cron = "0 0 * * * *")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    private void rebuild() {
+        try {
+            suggestionIndex.rebuild();
+        } catch (RuntimeException e) {
+            log.error("검색어 추천 색인 재생성 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.nookbook.domain.book.infrastructure.aladin;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// 알라딘 호출 유형별 서킷 브레이커
+// CLOSED: 최근 호출의 실패 비율이 임계치를 넘으면 OPEN
+// OPEN: 호출하지 않고 바로 실패, openDuration이 지나면 HALF_OPEN
+// HALF_OPEN: 제한된 수의 시험 호출만 허용, 모두 성공하면 CLOSED / 하나라도 실패하면 다시 OPEN
+@Slf4j
+public class AladinCircuitBreaker {
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final AladinEndpoint endpoint;
+    private final AladinClientProperties.CircuitBreaker config;
+    private final MeterRegistry meterRegistry;
+
+    // 최근 호출 결과 (true = 실패)
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int failureCount;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    public AladinCircuitBreaker(AladinEndpoint endpoint, AladinClientProperties.CircuitBreaker config, MeterRegistry meterRegistry) {
+        this.endpoint = endpoint;
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+        this.window = new boolean[config.getSlidingWindowSize()];
+        Gauge.builder("aladin.circuit.state", this, it -> it.getState().ordinal())
+                .tag("endpoint", endpoint.name().toLowerCase())
+                .description("0 = closed, 1 = half-open, 2 = open")
+                .register(meterRegistry);
+    }
+
+    public synchronized State getState() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= config.getOpenDuration().toNanos()) {
+            transitionTo(State.HALF_OPEN);
+        }
+        return state;
+    }
+
+    // 호출 가능 여부 (HALF_OPEN이면 시험 호출 자리를 차지함)
+    public synchronized boolean tryAcquire() {
+        return switch (getState()) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> {
+                if (probesInFlight + probeSuccesses >= config.getHalfOpenProbes()) {
+                    yield false;
+                }
+                probesInFlight++;
+                yield true;
+            }
+        };
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            probesInFlight = Math.max(probesInFlight - 1, 0);
+            if (++probeSuccesses >= config.getHalfOpenProbes()) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        record(true);
+        if (state == State.CLOSED && windowCount >= config.getMinimumCalls()
+                && failureCount * 100 >= config.getFailureRateThreshold() * windowCount) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    // 결과 없이 취소된 시험 호출은 자리만 반납
+    public synchronized void onCancel() {
+        if (state == State.HALF_OPEN) {
+            probesInFlight = Math.max(probesInFlight - 1, 0);
+        }
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == window.length) {
+            if (window[windowIndex]) {
+                failureCount--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            failureCount++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void transitionTo(State next) {
+        log.warn("알라딘 서킷 브레이커 상태 변경 - {}: {} -> {}", endpoint, state, next);
+        meterRegistry.counter("aladin.circuit.transitions",
+                "endpoint", endpoint.name().toLowerCase(), "from", state.name().toLowerCase(), "to", next.name().toLowerCase())
+                .increment();
+        state = next;
+        probesInFlight = 0;
+        probeSuccesses = 0;
+        if (next == State.OPEN) {
+            openedAt = System.nanoTime();
+        }
+        if (next == State.CLOSED) {
+            windowIndex = 0;
+            windowCount = 0;
+            failureCount = 0;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.nookbook.domain.book.infrastructure.aladin;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "aladin.client")
+@Getter
+@Setter
+public class AladinClientProperties {
+
+    // 유휴 커넥션 유지 시간
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+
+    // 커넥션 최대 수명
+    private Duration maxLifeTime = Duration.ofMinutes(5);
+
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    private final Endpoint search = new Endpoint(20, 40, Duration.ofSeconds(3));
+    private final Endpoint list = new Endpoint(10, 100, Duration.ofSeconds(5));
+    private final Endpoint lookup = new Endpoint(20, 40, Duration.ofSeconds(3));
+    private final Endpoint importLookup = new Endpoint(4, 100, Duration.ofSeconds(3));
+
+    public Endpoint get(AladinEndpoint endpoint) {
+        return switch (endpoint) {
+            case SEARCH -> search;
+            case LIST -> list;
+            case LOOKUP -> lookup;
+            case IMPORT -> importLookup;
+        };
+    }
+
+    // 호출 유형별 커넥션 풀(bulkhead) 및 타임아웃 설정
+    @Getter
+    @Setter
+    public static class Endpoint {
+        // 동시에 열 수 있는 최대 커넥션 수
+        private int maxConnections;
+        // 커넥션을 기다릴 수 있는 최대 요청 수 (초과 시 즉시 실패)
+        private int pendingAcquireMaxCount;
+        // 커넥션 획득 대기 시간
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(1);
+        private Duration connectTimeout = Duration.ofSeconds(2);
+        private Duration readTimeout;
+        private Duration responseTimeout;
+
+        public Endpoint(int maxConnections, int pendingAcquireMaxCount, Duration timeout) {
+            this.maxConnections = maxConnections;
+            this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+            this.readTimeout = timeout;
+            this.responseTimeout = timeout;
+        }
+    }
+
+    // 호출 유형별 서킷 브레이커 설정
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+        // 최근 호출 중 실패 비율(%)이 이 값 이상이면 차단
+        private int failureRateThreshold = 50;
+        // 실패 비율을 계산할 최근 호출 수
+        private int slidingWindowSize = 20;
+        // 실패 비율을 계산하기 위한 최소 호출 수
+        private int minimumCalls = 10;
+        // 차단 유지 시간 (이후 시험 호출 허용)
+        private Duration openDuration = Duration.ofSeconds(30);
+        // 시험(half-open) 상태에서 허용하는 호출 수 (모두 성공하면 복구)
+        private int halfOpenProbes = 3;
+    }
+}
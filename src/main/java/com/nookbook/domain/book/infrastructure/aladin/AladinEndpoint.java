@@ -0,0 +1,20 @@
+package com.nookbook.domain.book.infrastructure.aladin;
+
+// 알라딘 API 호출 유형
+// 유형별로 커넥션 풀과 타임아웃을 분리해 한 유형의 지연이 다른 유형으로 번지지 않도록 함
+public enum AladinEndpoint {
+
+    // 상품 검색 (ItemSearch)
+    SEARCH,
+
+    // 상품 리스트 - 베스트셀러 (ItemList)
+    LIST,
+
+    // 상품 조회 - 도서 상세 (ItemLookUp)
+    LOOKUP,
+
+    // 상품 조회 - 베스트셀러 도서 미리 저장 (ItemLookUp, bookImportJob)
+    // 사용자 상세 조회와 커넥션 풀/호출 한도를 나눠, 배치가 사용자 요청을 밀어내지 않도록 함
+    IMPORT
+
+}
@@ -0,0 +1,158 @@
+package com.nookbook.domain.book.infrastructure.aladin;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.springframework.core.io.buffer.DataBuffer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+// 알라딘 응답 본문을 도착한 조각(DataBuffer) 단위로 Jackson 논블로킹 파서에 넘겨 읽음
+// 본문 전체를 모으지 않고, item 하나가 끝날 때마다 그 item의 토큰만 DTO로 변환
+// 필요한 개수만큼 item을 읽으면 나머지 조각은 파싱하지 않음 (커넥션 재사용을 위해 본문은 끝까지 받음)
+// 구독 한 번에 하나씩 만들어 사용 (상태를 가지므로 공유 불가)
+public class AladinPageDecoder<T, R> {
+
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final ObjectReader itemReader;
+    private final int maxItems;
+    private final Function<Page<T>, R> finisher;
+
+    // 현재 중첩 깊이 (루트 객체 안 = 1, item 배열 안 = 2, item 객체 안 = 3)
+    private int depth;
+    private String field;
+    private boolean inItems;
+    // 읽고 있는 item의 토큰 (item 밖이면 null)
+    private TokenBuffer item;
+    private boolean done;
+
+    private int totalResults;
+    private int startIndex;
+    private int itemsPerPage;
+    private final List<T> items;
+
+    public record Page<T>(int totalResults, int startIndex, int itemsPerPage, List<T> items) {
+    }
+
+    AladinPageDecoder(ObjectMapper objectMapper, ObjectReader itemReader, int maxItems, Function<Page<T>, R> finisher) {
+        try {
+            this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        this.itemReader = itemReader;
+        this.maxItems = maxItems;
+        this.finisher = finisher;
+        this.items = new ArrayList<>(Math.min(maxItems, 100));
+    }
+
+    public boolean isDone() {
+        return done;
+    }
+
+    // 도착한 조각을 읽을 수 있는 만큼 파싱 (버퍼 해제는 호출하는 쪽에서)
+    public void feed(DataBuffer buffer) {
+        if (done) {
+            return;
+        }
+        byte[] bytes = new byte[buffer.readableByteCount()];
+        buffer.read(bytes);
+        try {
+            feeder.feedInput(bytes, 0, bytes.length);
+            drain();
+        } catch (IOException e) {
+            throw new UncheckedIOException("알라딘 응답 파싱 오류: " + e.getMessage(), e);
+        }
+    }
+
+    // 본문을 모두 받은 뒤 결과 반환 (null이면 빈 Mono)
+    public R finish() {
+        try {
+            if (!done) {
+                feeder.endOfInput();
+                drain();
+            }
+            parser.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("알라딘 응답 파싱 오류: " + e.getMessage(), e);
+        }
+        return finisher.apply(new Page<>(totalResults, startIndex, itemsPerPage, items));
+    }
+
+    private void drain() throws IOException {
+        JsonToken token;
+        while (!done && (token = parser.nextToken()) != JsonToken.NOT_AVAILABLE) {
+            if (token == null) {
+                done = true;
+                return;
+            }
+            if (item != null) {
+                readItemToken(token);
+            } else {
+                readPageToken(token);
+            }
+        }
+    }
+
+    private void readItemToken(JsonToken token) throws IOException {
+        item.copyCurrentEvent(parser);
+        if (token.isStructStart()) {
+            depth++;
+            return;
+        }
+        if (token.isStructEnd() && --depth == 2) {
+            try (JsonParser itemParser = item.asParser()) {
+                items.add(itemReader.readValue(itemParser));
+            }
+            item = null;
+            // 필요한 개수를 채우면 나머지는 읽지 않음 (item은 응답의 마지막 필드)
+            done = items.size() >= maxItems;
+        }
+    }
+
+    private void readPageToken(JsonToken token) throws IOException {
+        if (token.isStructStart()) {
+            depth++;
+            if (depth == 1 && token != JsonToken.START_OBJECT) {
+                done = true;
+            } else if (depth == 2 && "item".equals(field) && token == JsonToken.START_ARRAY) {
+                inItems = true;
+            } else if (depth == 3 && inItems && token == JsonToken.START_OBJECT) {
+                item = new TokenBuffer(parser);
+                item.copyCurrentEvent(parser);
+            }
+            return;
+        }
+        if (token.isStructEnd()) {
+            depth--;
+            if (depth == 1) {
+                inItems = false;
+            }
+            done = depth == 0;
+            return;
+        }
+        if (depth != 1) {
+            return;
+        }
+        if (token == JsonToken.FIELD_NAME) {
+            field = parser.currentName();
+            return;
+        }
+        switch (field) {
+            case "totalResults" -> totalResults = parser.getValueAsInt();
+            case "startIndex" -> startIndex = parser.getValueAsInt();
+            case "itemsPerPage" -> itemsPerPage = parser.getValueAsInt();
+            default -> {
+            }
+        }
+    }
+}
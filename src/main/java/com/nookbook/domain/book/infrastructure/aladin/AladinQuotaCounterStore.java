@@ -0,0 +1,64 @@
+package com.nookbook.domain.book.infrastructure.aladin;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.Optional;
+
+// 알라딘 일일 호출 수를 로컬 파일로 저장/복원
+// 재시작할 때마다 호출 수가 0으로 돌아가 하루 한도를 넘기지 않도록 하기 위함
+//
+// 파일 형식: [magic:int][version:short][epochDay:long][used:long]
+@Slf4j
+@Component
+public class AladinQuotaCounterStore {
+
+    private static final int MAGIC = 0x4E4B4151; // "NKAQ"
+    private static final short VERSION = 1;
+
+    private final Path path;
+
+    public record DailyCount(LocalDate day, long used) {
+    }
+
+    public AladinQuotaCounterStore(AladinQuotaProperties properties) {
+        this.path = Path.of(properties.getCounterPath());
+    }
+
+    public void save(DailyCount count) {
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            // 임시 파일에 쓴 뒤 교체하여 쓰는 도중 종료되어도 이전 파일이 깨지지 않도록 함
+            Path tempFile = Files.createTempFile(path.toAbsolutePath().getParent(), "aladin-quota", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                out.writeInt(MAGIC);
+                out.writeShort(VERSION);
+                out.writeLong(count.day().toEpochDay());
+                out.writeLong(count.used());
+            }
+            Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("알라딘 호출 수 파일 저장 실패 - {}: {}", path, e.getMessage());
+        }
+    }
+
+    public Optional<DailyCount> load() {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC || in.readShort() != VERSION) {
+                throw new IOException("지원하지 않는 호출 수 파일 형식입니다.");
+            }
+            return Optional.of(new DailyCount(LocalDate.ofEpochDay(in.readLong()), in.readLong()));
+        } catch (IOException | RuntimeException e) {
+            log.warn("알라딘 호출 수 파일 복원 실패 - {}: {}", path, e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
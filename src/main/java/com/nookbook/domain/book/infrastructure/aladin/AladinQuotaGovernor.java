@@ -0,0 +1,183 @@
+package com.nookbook.domain.book.infrastructure.aladin;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.Map;
+
+// 알라딘 TTB 일일 호출 한도 관리
+// 1) 호출 유형별 토큰 버킷으로 순간 폭주를 제한하고 (토큰이 없으면 maxWait까지 기다렸다가 호출)
+// 2) 하루 한도는 우선순위(베스트셀러 갱신 > 상세 조회 > 검색 > 베스트셀러 도서 미리 저장)에 따라 예약분을 남겨 두고 배분
+// 한도가 부족해지면 검색부터 거절되며, 검색은 캐시/로컬 색인 결과로 대체됨
+// 일일 호출 수는 persistEvery회 앞선 값을 파일에 저장해 두고 기동 시 복원 (종료 시에는 실제 값 저장)
+@Slf4j
+@Component
+public class AladinQuotaGovernor {
+
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+
+    private final AladinQuotaProperties properties;
+    private final AladinQuotaCounterStore counterStore;
+    private final Map<AladinEndpoint, TokenBucket> buckets = new EnumMap<>(AladinEndpoint.class);
+    private final Map<AladinEndpoint, Counter> rateLimitedCounters = new EnumMap<>(AladinEndpoint.class);
+    private final Map<AladinEndpoint, Counter> quotaRejectedCounters = new EnumMap<>(AladinEndpoint.class);
+
+    private LocalDate day = LocalDate.now(ZONE_ID);
+    private long used;
+    // 파일에 저장된 호출 수 (used가 이 값에 닿으면 다시 앞서 저장)
+    private long persisted;
+
+    private final Object saveLock = new Object();
+    // 마지막으로 파일에 저장한 값 (saveLock으로 보호)
+    private AladinQuotaCounterStore.DailyCount lastSaved;
+
+    public AladinQuotaGovernor(AladinQuotaProperties properties, AladinQuotaCounterStore counterStore, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.counterStore = counterStore;
+        counterStore.load()
+                .filter(count -> count.day().equals(day))
+                .ifPresent(count -> {
+                    used = count.used();
+                    persisted = count.used();
+                    log.info("알라딘 일일 호출 수 복원 - {}: {}회 사용", day, used);
+                });
+        for (AladinEndpoint endpoint : AladinEndpoint.values()) {
+            AladinQuotaProperties.Lane lane = properties.get(endpoint);
+            buckets.put(endpoint, new TokenBucket(lane.getPermitsPerSecond(), lane.getBurst()));
+            String tag = endpoint.name().toLowerCase();
+            rateLimitedCounters.put(endpoint, meterRegistry.counter("aladin.quota.rejected", "endpoint", tag, "reason", "rate"));
+            quotaRejectedCounters.put(endpoint, meterRegistry.counter("aladin.quota.rejected", "endpoint", tag, "reason", "daily"));
+        }
+        Gauge.builder("aladin.quota.remaining", this, AladinQuotaGovernor::remaining).register(meterRegistry);
+    }
+
+    // 일일 한도 안이면 토큰을 예약하고, 토큰이 생길 때까지 기다려야 하는 시간을 함께 반환
+    // 기다릴 시간이 호출 유형의 maxWait를 넘으면 예약하지 않고 RATE_LIMITED
+    public Admission acquire(AladinEndpoint endpoint) {
+        AladinQuotaCounterStore.DailyCount ahead;
+        long delayNanos;
+        synchronized (this) {
+            resetIfNewDay();
+            if (properties.getDailyLimit() - used <= reserveAbove(endpoint)) {
+                quotaRejectedCounters.get(endpoint).increment();
+                return Admission.QUOTA_EXCEEDED;
+            }
+            delayNanos = buckets.get(endpoint).reserve(properties.get(endpoint).getMaxWait().toNanos());
+            if (delayNanos < 0) {
+                rateLimitedCounters.get(endpoint).increment();
+                return Admission.RATE_LIMITED;
+            }
+            used++;
+            if (used <= persisted) {
+                return Admission.admitted(delayNanos);
+            }
+            persisted = used + properties.getPersistEvery();
+            ahead = new AladinQuotaCounterStore.DailyCount(day, persisted);
+        }
+        // 파일 저장은 잠금 밖에서 (다른 호출이 저장을 기다리지 않도록)
+        save(ahead, false);
+        return Admission.admitted(delayNanos);
+    }
+
+    public synchronized long remaining() {
+        resetIfNewDay();
+        return Math.max(properties.getDailyLimit() - used, 0);
+    }
+
+    @PreDestroy
+    public void saveOnShutdown() {
+        AladinQuotaCounterStore.DailyCount count;
+        synchronized (this) {
+            resetIfNewDay();
+            count = new AladinQuotaCounterStore.DailyCount(day, used);
+        }
+        save(count, true);
+    }
+
+    // 잠금 밖에서 저장하므로, 늦게 도착한 앞선 값이 더 큰 값을 덮어쓰지 않도록 함 (종료 시 저장은 항상 기록)
+    private void save(AladinQuotaCounterStore.DailyCount count, boolean force) {
+        synchronized (saveLock) {
+            if (!force && lastSaved != null && lastSaved.day().equals(count.day()) && lastSaved.used() >= count.used()) {
+                return;
+            }
+            counterStore.save(count);
+            lastSaved = count;
+        }
+    }
+
+    // 자신보다 우선순위가 높은 호출 유형을 위해 남겨 둬야 하는 호출 수
+    private long reserveAbove(AladinEndpoint endpoint) {
+        return switch (endpoint) {
+            case LIST -> 0;
+            case LOOKUP -> properties.getListReserve();
+            case SEARCH -> properties.getListReserve() + properties.getLookupReserve();
+            case IMPORT -> properties.getListReserve() + properties.getLookupReserve() + properties.getSearchReserve();
+        };
+    }
+
+    // 알라딘 한도는 자정(KST)에 초기화
+    private void resetIfNewDay() {
+        LocalDate today = LocalDate.now(ZONE_ID);
+        if (!today.equals(day)) {
+            log.info("알라딘 일일 호출 수 초기화 - {}: {}회 사용", day, used);
+            day = today;
+            used = 0;
+            persisted = 0;
+        }
+    }
+
+    // 호출 가능 여부와, 가능하면 호출 전에 기다려야 하는 시간
+    public record Admission(Outcome outcome, long delayNanos) {
+
+        static final Admission QUOTA_EXCEEDED = new Admission(Outcome.QUOTA_EXCEEDED, 0);
+        static final Admission RATE_LIMITED = new Admission(Outcome.RATE_LIMITED, 0);
+
+        static Admission admitted(long delayNanos) {
+            return new Admission(Outcome.ADMITTED, delayNanos);
+        }
+    }
+
+    public enum Outcome {
+        ADMITTED,
+        // 토큰을 maxWait 안에 받을 수 없음 (일일 한도는 남아 있음)
+        RATE_LIMITED,
+        // 일일 한도 중 이 호출 유형에 배분된 몫을 모두 사용
+        QUOTA_EXCEEDED
+    }
+
+    private static final class TokenBucket {
+
+        private final double permitsPerNano;
+        private final double capacity;
+        private double tokens;
+        private long refilledAt = System.nanoTime();
+
+        private TokenBucket(double permitsPerSecond, int burst) {
+            this.permitsPerNano = permitsPerSecond / 1_000_000_000d;
+            this.capacity = burst;
+            this.tokens = burst;
+        }
+
+        // 토큰 하나를 예약하고 토큰이 생길 때까지 기다릴 시간(ns)을 반환 (토큰은 음수까지 내려가 대기 순서를 표시)
+        // 기다릴 시간이 maxWaitNanos를 넘으면 예약하지 않고 -1
+        // 호출하는 쪽(AladinQuotaGovernor)에서 동기화
+        long reserve(long maxWaitNanos) {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * permitsPerNano);
+            refilledAt = now;
+            long delayNanos = tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / permitsPerNano);
+            if (delayNanos > maxWaitNanos) {
+                return -1;
+            }
+            tokens--;
+            return delayNanos;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.nookbook.domain.book.infrastructure.aladin;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "aladin.quota")
+@Getter
+@Setter
+public class AladinQuotaProperties {
+
+    // TTB 키의 일일 호출 한도
+    private long dailyLimit = 5_000;
+
+    // 우선순위가 높은 호출 유형을 위해 남겨 두는 일일 호출 수
+    // 남은 호출 수가 (자신보다 우선순위가 높은 유형들의 예약분 합) 이하이면 거절
+    private long listReserve = 300;
+    private long lookupReserve = 1_000;
+    private long searchReserve = 500;
+
+    // 일일 호출 수 저장 파일 (재시작 후에도 같은 날이면 이어서 셈)
+    private String counterPath;
+
+    // 호출 수를 이만큼 앞서 저장해 두어, 비정상 종료 시에도 실제보다 적게 복원되지 않도록 함
+    private long persistEvery = 50;
+
+    private final Lane search = new Lane(10, 20, Duration.ofMillis(500));
+    private final Lane list = new Lane(5, 10, Duration.ofSeconds(30));
+    private final Lane lookup = new Lane(10, 20, Duration.ofSeconds(2));
+    private final Lane importLookup = new Lane(2, 2, Duration.ofSeconds(30));
+
+    public Lane get(AladinEndpoint endpoint) {
+        return switch (endpoint) {
+            case SEARCH -> search;
+            case LIST -> list;
+            case LOOKUP -> lookup;
+            case IMPORT -> importLookup;
+        };
+    }
+
+    // 호출 유형별 토큰 버킷 (순간 폭주 완화)
+    @Getter
+    @Setter
+    public static class Lane {
+        // 초당 보충되는 토큰 수
+        private double permitsPerSecond;
+        // 버킷 크기 (한 번에 허용하는 최대 호출 수)
+        private int burst;
+        // 토큰이 없을 때 기다릴 수 있는 최대 시간 (넘으면 호출하지 않고 거절)
+        private Duration maxWait;
+
+        public Lane(double permitsPerSecond, int burst, Duration maxWait) {
+            this.permitsPerSecond = permitsPerSecond;
+            this.burst = burst;
+            this.maxWait = maxWait;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.nookbook.domain.book.infrastructure.aladin;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.nookbook.domain.book.dto.response.*;
+import org.springframework.stereotype.Component;
+
+// 알라딘 응답을 Map/String을 거치지 않고 Jackson 스트리밍 API로 DTO에 바로 읽어 들임
+// 응답별로 AladinPageDecoder를 만들어 본문 조각이 도착하는 대로 파싱
+// 필요한 개수만큼 item을 읽으면 나머지 본문은 파싱하지 않고 종료
+@Component
+public class AladinResponseDecoder {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader searchBookReader;
+    private final ObjectReader bestSellerBookReader;
+    private final ObjectReader bookDetailReader;
+
+    public AladinResponseDecoder(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.searchBookReader = objectMapper.readerFor(SearchBookRes.class);
+        this.bestSellerBookReader = objectMapper.readerFor(BestSellerBookRes.class);
+        this.bookDetailReader = objectMapper.readerFor(BookDetailRes.class);
+    }
+
+    public AladinPageDecoder<SearchBookRes, SearchRes> searchDecoder(int maxItems) {
+        return new AladinPageDecoder<>(objectMapper, searchBookReader, maxItems, page -> SearchRes.builder()
+                .totalResults(page.totalResults())
+                .startIndex(page.startIndex())
+                .itemsPerPage(page.itemsPerPage())
+                .items(page.items())
+                .build());
+    }
+
+    public AladinPageDecoder<BestSellerBookRes, BestSellerRes> bestSellerDecoder(int maxItems) {
+        return new AladinPageDecoder<>(objectMapper, bestSellerBookReader, maxItems, page -> BestSellerRes.builder()
+                .totalResults(page.totalResults())
+                .startIndex(page.startIndex())
+                .itemsPerPage(page.itemsPerPage())
+                .items(page.items())
+                .build());
+    }
+
+    // 상세 조회는 첫 번째 item만 사용 (없으면 null)
+    public AladinPageDecoder<BookDetailRes, BookDetailRes> bookDetailDecoder() {
+        return new AladinPageDecoder<>(objectMapper, bookDetailReader, 1, page -> {
+            if (page.items().isEmpty()) {
+                return null;
+            }
+            BookDetailRes bookDetailRes = page.items().get(0);
+            bookDetailRes.formatCategoryName(bookDetailRes.getCategory());
+            return bookDetailRes;
+        });
+    }
+}
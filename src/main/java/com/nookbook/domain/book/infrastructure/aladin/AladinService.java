@@ -1,31 +1,69 @@
 package com.nookbook.domain.book.infrastructure.aladin;
 
+import com.nookbook.domain.book.dto.response.BestSellerRes;
+import com.nookbook.domain.book.dto.response.BookDetailRes;
+import com.nookbook.domain.book.dto.response.SearchRes;
+import com.nookbook.domain.book.exception.AladinQuotaExceededException;
+import com.nookbook.domain.book.exception.AladinRateLimitedException;
+import com.nookbook.domain.book.exception.AladinUnavailableException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
 
 import java.net.URI;
+import java.time.Duration;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class AladinService {
 
+    // 검색 요청의 MaxResults와 동일
+    private static final int SEARCH_PAGE_SIZE = 10;
+
     private final AladinUriBuilder uriBuilder;
     private final AladinWebClient webClient;
+    private final AladinResponseDecoder decoder;
+    private final AladinQuotaGovernor quotaGovernor;
 
-    public String callAladinSearchBooks(String keyword, int page) {
+    public Mono<SearchRes> callAladinSearchBooks(String keyword, int page) {
         URI uri = uriBuilder.buildSearchUri(keyword, page);
-        return webClient.get(uri);
+        return call(AladinEndpoint.SEARCH, uri, () -> decoder.searchDecoder(SEARCH_PAGE_SIZE));
     }
 
-    public String callAladinBestSellers(int page, int category, int size) {
+    public Mono<BestSellerRes> callAladinBestSellers(int page, int category, int size) {
         URI uri = uriBuilder.buildBestSellerUri(page, category, size);
-        return webClient.get(uri);
+        return call(AladinEndpoint.LIST, uri, () -> decoder.bestSellerDecoder(size));
+    }
+
+    // 검색 결과가 없으면 빈 Mono
+    public Mono<BookDetailRes> callAladinBookDetail(String isbn13) {
+        URI uri = uriBuilder.buildBookDetailUri(isbn13);
+        return call(AladinEndpoint.LOOKUP, uri, decoder::bookDetailDecoder);
     }
 
-    public String callAladinBookDetail(String isbn13) {
+    // 배치에서 미리 저장할 도서 상세 (가장 낮은 우선순위, 검색 결과가 없으면 빈 Mono)
+    public Mono<BookDetailRes> callAladinBookDetailForImport(String isbn13) {
         URI uri = uriBuilder.buildBookDetailUri(isbn13);
-        return webClient.get(uri);
+        return call(AladinEndpoint.IMPORT, uri, decoder::bookDetailDecoder);
+    }
+
+    // 구독(재시도 포함) 시점마다 서킷 상태와 호출 한도를 확인하고, 호출할 수 없으면 바로 에러
+    // 서킷이 열려 있을 때는 한도를 소모하지 않음
+    // 초당 호출 수를 넘으면 거절하지 않고 토큰이 생길 때까지 호출을 미룸 (maxWait를 넘으면 AladinRateLimitedException)
+    private <T> Mono<T> call(AladinEndpoint endpoint, URI uri, Supplier<AladinPageDecoder<?, T>> body) {
+        return Mono.defer(() -> {
+            if (!webClient.isCallPermitted(endpoint)) {
+                return Mono.<T>error(new AladinUnavailableException());
+            }
+            AladinQuotaGovernor.Admission admission = quotaGovernor.acquire(endpoint);
+            return switch (admission.outcome()) {
+                case QUOTA_EXCEEDED -> Mono.<T>error(new AladinQuotaExceededException());
+                case RATE_LIMITED -> Mono.<T>error(new AladinRateLimitedException());
+                case ADMITTED -> admission.delayNanos() == 0
+                        ? webClient.get(endpoint, uri, body)
+                        : webClient.get(endpoint, uri, body).delaySubscription(Duration.ofNanos(admission.delayNanos()));
+            };
+        });
     }
-}
\ No newline at end of file
+}
@@ -1,25 +1,128 @@
 package com.nookbook.domain.book.infrastructure.aladin;
 
+import com.nookbook.domain.book.exception.AladinUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutException;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.PrematureCloseException;
+import reactor.netty.resources.ConnectionProvider;
 
+import java.io.UncheckedIOException;
+import java.net.ConnectException;
 import java.net.URI;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 @Component
-public class AladinWebClient {
-
-    private final WebClient webClient = WebClient.builder()
-            .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-            .build();
-
-    public String get(URI uri) {
-        return webClient.get()
-                .uri(uri)
-                .retrieve()
-                .bodyToMono(String.class)
-                .block();
+public class AladinWebClient implements DisposableBean {
+
+    private final Map<AladinEndpoint, ConnectionProvider> connectionProviders = new EnumMap<>(AladinEndpoint.class);
+    private final Map<AladinEndpoint, WebClient> webClients = new EnumMap<>(AladinEndpoint.class);
+    private final Map<AladinEndpoint, AladinCircuitBreaker> circuitBreakers = new EnumMap<>(AladinEndpoint.class);
+
+    public AladinWebClient(AladinClientProperties properties, MeterRegistry meterRegistry) {
+        for (AladinEndpoint endpoint : AladinEndpoint.values()) {
+            circuitBreakers.put(endpoint, new AladinCircuitBreaker(endpoint, properties.getCircuitBreaker(), meterRegistry));
+            AladinClientProperties.Endpoint config = properties.get(endpoint);
+            // 호출 유형별로 커넥션 풀을 분리 (검색 폭주가 베스트셀러 갱신, 상세 조회를 막지 않도록)
+            ConnectionProvider connectionProvider = ConnectionProvider.builder("aladin-" + endpoint.name().toLowerCase())
+                    .maxConnections(config.getMaxConnections())
+                    .pendingAcquireMaxCount(config.getPendingAcquireMaxCount())
+                    .pendingAcquireTimeout(config.getPendingAcquireTimeout())
+                    .maxIdleTime(properties.getMaxIdleTime())
+                    .maxLifeTime(properties.getMaxLifeTime())
+                    .evictInBackground(properties.getMaxIdleTime())
+                    .build();
+            HttpClient httpClient = HttpClient.create(connectionProvider)
+                    .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) config.getConnectTimeout().toMillis())
+                    .responseTimeout(config.getResponseTimeout())
+                    .doOnConnected(connection -> connection.addHandlerLast(
+                            new ReadTimeoutHandler(config.getReadTimeout().toMillis(), TimeUnit.MILLISECONDS)));
+            WebClient webClient = WebClient.builder()
+                    .clientConnector(new ReactorClientHttpConnector(httpClient))
+                    .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                    .build();
+            connectionProviders.put(endpoint, connectionProvider);
+            webClients.put(endpoint, webClient);
+        }
     }
-}
 
+    // 차단(OPEN) 상태가 아니면 true (HALF_OPEN 시험 호출 자리는 get에서 확인)
+    public boolean isCallPermitted(AladinEndpoint endpoint) {
+        return circuitBreakers.get(endpoint).getState() != AladinCircuitBreaker.State.OPEN;
+    }
+
+    // 응답 본문을 모으지 않고 도착한 바이트 버퍼를 바로 decoder에 넘기고 해제 (decoder 결과가 null이면 빈 Mono)
+    // decoder는 구독마다 새로 만듦 (재시도 시 처음부터 다시 파싱)
+    // 서킷이 열려 있으면 호출하지 않고 AladinUnavailableException
+    public <T> Mono<T> get(AladinEndpoint endpoint, URI uri, Supplier<AladinPageDecoder<?, T>> decoderFactory) {
+        AladinCircuitBreaker circuitBreaker = circuitBreakers.get(endpoint);
+        return Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquire()) {
+                return Mono.<T>error(new AladinUnavailableException());
+            }
+            AladinPageDecoder<?, T> decoder = decoderFactory.get();
+            Flux<DataBuffer> body = webClients.get(endpoint).get()
+                    .uri(uri)
+                    .retrieve()
+                    .bodyToFlux(DataBuffer.class);
+            return body
+                    .doOnNext(buffer -> {
+                        try {
+                            decoder.feed(buffer);
+                        } finally {
+                            DataBufferUtils.release(buffer);
+                        }
+                    })
+                    .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                    .then(Mono.fromCallable(decoder::finish))
+                    .doOnSuccess(result -> circuitBreaker.onSuccess())
+                    .doOnError(e -> {
+                        if (isUpstreamFailure(e)) {
+                            circuitBreaker.onFailure();
+                        } else {
+                            circuitBreaker.onCancel();
+                        }
+                    })
+                    .doOnCancel(circuitBreaker::onCancel);
+        });
+    }
+
+    // 알라딘 쪽 장애만 서킷 실패로 기록: 5xx 응답, 연결/응답 시간 초과, 연결 실패, 응답 파싱 오류
+    // 커넥션 풀 대기 시간 초과/대기열 초과처럼 이 서버에서 거절한 호출과 4xx 응답은 실패로 세지 않음 (시험 호출 자리만 반납)
+    private static boolean isUpstreamFailure(Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError();
+        }
+        if (e instanceof UncheckedIOException) {
+            return true;
+        }
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException || cause instanceof ReadTimeoutException
+                    || cause instanceof PrematureCloseException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void destroy() {
+        connectionProviders.values().forEach(ConnectionProvider::dispose);
+    }
+}
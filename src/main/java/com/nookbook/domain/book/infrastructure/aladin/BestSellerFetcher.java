@@ -1,26 +1,18 @@
 package com.nookbook.domain.book.infrastructure.aladin;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nookbook.domain.book.dto.response.BestSellerRes;
-import com.nookbook.domain.book.infrastructure.aladin.AladinService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
 @Component
 @RequiredArgsConstructor
 public class BestSellerFetcher {
 
     private final AladinService aladinService;
-    private final ObjectMapper objectMapper;
 
-    public BestSellerRes fetchBestSeller(int page, int category, int size) {
-        String json = aladinService.callAladinBestSellers(page, category, size);
-        try {
-            return objectMapper.readValue(json, BestSellerRes.class);
-        } catch (Exception e) {
-            System.err.println("JSON 파싱 오류: " + e.getMessage());
-            return new BestSellerRes();
-        }
+    // 호출/파싱 실패는 에러로 전달 (재시도 및 대체 여부는 호출하는 쪽에서 결정)
+    public Mono<BestSellerRes> fetchBestSeller(int page, int category, int size) {
+        return aladinService.callAladinBestSellers(page, category, size);
     }
 }
-
@@ -0,0 +1,60 @@
+package com.nookbook.domain.book.infrastructure.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.nookbook.domain.book.dto.response.BestSellerRes;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.zip.GZIPOutputStream;
+
+// BestSellerRes를 응답 바이트(json, gzip)와 ETag로 미리 변환
+@Component
+public class BestSellerPageEncoder {
+
+    // ETag에 사용할 해시 길이 (SHA-256 앞 16바이트)
+    private static final int HASH_BYTES = 16;
+
+    private final ObjectWriter writer;
+
+    public BestSellerPageEncoder(ObjectMapper objectMapper) {
+        this.writer = objectMapper.writerFor(BestSellerRes.class);
+    }
+
+    public EncodedBestSellerPage encode(BestSellerRes res) {
+        try {
+            byte[] json = writer.writeValueAsBytes(res);
+            byte[] gzip = gzip(json);
+            return new EncodedBestSellerPage(json, gzip.length < json.length ? gzip : null, hash(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("베스트셀러 직렬화 오류: " + e.getMessage(), e);
+        }
+    }
+
+    private byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    // 내용이 같으면 재시작 후에도 같은 ETag가 나오도록 본문 해시 사용
+    private String hash(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return HexFormat.of().formatHex(Arrays.copyOf(digest, HASH_BYTES));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
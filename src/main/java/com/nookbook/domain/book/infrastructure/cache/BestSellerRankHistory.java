@@ -0,0 +1,306 @@
+package com.nookbook.domain.book.infrastructure.cache;
+
+import com.nookbook.domain.book.dto.response.BestSellerBookRes;
+import com.nookbook.domain.book.dto.response.BestSellerRes;
+import com.nookbook.domain.book.dto.response.RankChange;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Stream;
+
+// 일자별 카테고리 베스트셀러 순위 기록 (전날 대비 순위 변동 계산용)
+// JSON 전체가 아닌 카테고리별 (ISBN, 순위) 평행 배열만 ISBN 오름차순으로 저장하므로
+// 하루 9개 카테고리 x 1000권 기준 약 90KB, 30일 약 3MB
+//
+// 파일 형식 (일자별 파일 1개, ranks-yyyy-MM-dd.bin)
+// [magic:int][version:short][epochDay:int][categoryCount:int]
+//   categoryCount x [category:int][count:int][isbn13:long x count][rank:short x count]
+@Slf4j
+@Component
+public class BestSellerRankHistory {
+
+    private static final int MAGIC = 0x4E4B4252; // "NKBR"
+    private static final short VERSION = 1;
+    private static final String FILE_PREFIX = "ranks-";
+    private static final String FILE_SUFFIX = ".bin";
+
+    private final Path directory;
+    private final int retentionDays;
+
+    // 직전 일자 기록은 갱신/재시작 때마다 다시 읽지 않도록 보관
+    private volatile DailyRanking previousRanking;
+
+    public BestSellerRankHistory(@Value("${bestseller.rank-history.path}") String directory,
+                                 @Value("${bestseller.rank-history.retention-days:30}") int retentionDays) {
+        this.directory = Path.of(directory);
+        this.retentionDays = retentionDays;
+    }
+
+    // 스냅샷의 순위를 갱신 일자 기록으로 저장 (같은 날 다시 갱신하면 덮어씀)
+    public void record(BestSellerSnapshot snapshot) {
+        if (snapshot.isEmpty() || snapshot.getRefreshedAt() == null) {
+            return;
+        }
+        DailyRanking ranking = DailyRanking.of(snapshot);
+        try {
+            Files.createDirectories(directory);
+            Path tempFile = Files.createTempFile(directory, "ranks", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                write(out, ranking);
+            }
+            Path file = fileOf(ranking.date());
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("베스트셀러 순위 기록 저장 - {} ({} bytes)", file, Files.size(file));
+            deleteExpired(ranking.date());
+        } catch (IOException e) {
+            log.warn("베스트셀러 순위 기록 저장 실패 - {}: {}", directory, e.getMessage());
+        }
+    }
+
+    // 스냅샷 갱신 일자 직전의 기록과 비교해 각 도서의 순위 변동을 채운 새 스냅샷 반환
+    // 페이지와 도서는 복사해서 채우므로, 캐시에 게시된 이전 스냅샷과 공유하는 객체는 바뀌지 않음
+    // 직전 기록이 없으면 받은 스냅샷을 그대로 반환
+    public BestSellerSnapshot annotate(BestSellerSnapshot snapshot) {
+        if (snapshot.isEmpty() || snapshot.getRefreshedAt() == null) {
+            return snapshot;
+        }
+        DailyRanking previous = previousRanking(snapshot.getRefreshedAt().toLocalDate());
+        if (previous == null) {
+            return snapshot;
+        }
+        DailyRanking current = DailyRanking.of(snapshot);
+        Map<Integer, int[]> deltasByCategory = new HashMap<>(current.categories().size() * 2);
+        for (Map.Entry<Integer, CategoryRanking> entry : current.categories().entrySet()) {
+            CategoryRanking before = previous.categories().get(entry.getKey());
+            if (before != null) {
+                deltasByCategory.put(entry.getKey(), entry.getValue().deltasFrom(before));
+            }
+        }
+        Map<BestSellerSnapshot.PageKey, BestSellerRes> pages = new HashMap<>(snapshot.getPages().size() * 2);
+        for (Map.Entry<BestSellerSnapshot.PageKey, BestSellerRes> page : snapshot.getPages().entrySet()) {
+            int category = page.getKey().category();
+            pages.put(page.getKey(), annotate(page.getValue(), current.categories().get(category), deltasByCategory.get(category)));
+        }
+        return new BestSellerSnapshot(pages, snapshot.getRefreshedAt());
+    }
+
+    // 이전 기록에 없는 카테고리의 도서는 순위 변동을 비움 (이전 스냅샷에서 복사된 페이지의 지난 값이 남지 않도록)
+    private BestSellerRes annotate(BestSellerRes page, CategoryRanking ranking, int[] deltas) {
+        if (page.getItems() == null) {
+            return page;
+        }
+        List<BestSellerBookRes> items = new ArrayList<>(page.getItems().size());
+        for (BestSellerBookRes item : page.getItems()) {
+            int index = deltas == null ? -1 : ranking.indexOf(parseIsbn(item.getIsbn13()));
+            items.add(index >= 0 ? withDelta(item, deltas[index]) : item.withRankChange(null, null));
+        }
+        return new BestSellerRes(page.getTotalResults(), page.getStartIndex(), page.getItemsPerPage(), items);
+    }
+
+    private BestSellerBookRes withDelta(BestSellerBookRes item, int delta) {
+        if (delta == CategoryRanking.NEW_ENTRY) {
+            return item.withRankChange(RankChange.NEW, 0);
+        } else if (delta > 0) {
+            return item.withRankChange(RankChange.UP, delta);
+        } else if (delta < 0) {
+            return item.withRankChange(RankChange.DOWN, -delta);
+        }
+        return item.withRankChange(RankChange.SAME, 0);
+    }
+
+    private DailyRanking previousRanking(LocalDate date) {
+        Optional<LocalDate> previousDate = recordedDates().stream()
+                .filter(recorded -> recorded.isBefore(date))
+                .max(Comparator.naturalOrder());
+        if (previousDate.isEmpty()) {
+            return null;
+        }
+        DailyRanking cached = previousRanking;
+        if (cached != null && cached.date().equals(previousDate.get())) {
+            return cached;
+        }
+        try {
+            DailyRanking loaded = read(fileOf(previousDate.get()));
+            previousRanking = loaded;
+            return loaded;
+        } catch (IOException | RuntimeException e) {
+            log.warn("베스트셀러 순위 기록 읽기 실패 - {}: {}", previousDate.get(), e.getMessage());
+            return null;
+        }
+    }
+
+    private List<LocalDate> recordedDates() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        List<LocalDate> dates = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX))
+                    .forEach(name -> {
+                        try {
+                            dates.add(LocalDate.parse(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length())));
+                        } catch (RuntimeException ignored) {
+                            // 형식이 다른 파일은 무시
+                        }
+                    });
+        } catch (IOException e) {
+            log.warn("베스트셀러 순위 기록 목록 조회 실패 - {}: {}", directory, e.getMessage());
+        }
+        return dates;
+    }
+
+    private void deleteExpired(LocalDate today) {
+        LocalDate expiredBefore = today.minusDays(retentionDays);
+        for (LocalDate date : recordedDates()) {
+            if (date.isBefore(expiredBefore)) {
+                try {
+                    Files.deleteIfExists(fileOf(date));
+                } catch (IOException e) {
+                    log.warn("베스트셀러 순위 기록 삭제 실패 - {}: {}", date, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private Path fileOf(LocalDate date) {
+        return directory.resolve(FILE_PREFIX + date + FILE_SUFFIX);
+    }
+
+    private void write(DataOutputStream out, DailyRanking ranking) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeInt((int) ranking.date().toEpochDay());
+        out.writeInt(ranking.categories().size());
+        for (Map.Entry<Integer, CategoryRanking> entry : ranking.categories().entrySet()) {
+            CategoryRanking category = entry.getValue();
+            out.writeInt(entry.getKey());
+            out.writeInt(category.isbns().length);
+            for (long isbn : category.isbns()) {
+                out.writeLong(isbn);
+            }
+            for (short rank : category.ranks()) {
+                out.writeShort(rank);
+            }
+        }
+    }
+
+    // 파일을 메모리 매핑해 배열 단위로 바로 복사
+    private DailyRanking read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getShort() != VERSION) {
+                throw new IOException("지원하지 않는 순위 기록 파일 형식입니다.");
+            }
+            LocalDate date = LocalDate.ofEpochDay(buffer.getInt());
+            int categoryCount = buffer.getInt();
+            Map<Integer, CategoryRanking> categories = new HashMap<>(categoryCount * 2);
+            for (int i = 0; i < categoryCount; i++) {
+                int category = buffer.getInt();
+                int count = buffer.getInt();
+                long[] isbns = new long[count];
+                short[] ranks = new short[count];
+                buffer.asLongBuffer().get(isbns);
+                buffer.position(buffer.position() + count * Long.BYTES);
+                buffer.asShortBuffer().get(ranks);
+                buffer.position(buffer.position() + count * Short.BYTES);
+                categories.put(category, new CategoryRanking(isbns, ranks));
+            }
+            return new DailyRanking(date, categories);
+        }
+    }
+
+    // ISBN-13은 13자리 숫자이므로 long으로 저장 (숫자가 아니면 0)
+    private static long parseIsbn(String isbn13) {
+        if (isbn13 == null || isbn13.isEmpty() || isbn13.length() > 18) {
+            return 0L;
+        }
+        long value = 0L;
+        for (int i = 0; i < isbn13.length(); i++) {
+            char c = isbn13.charAt(i);
+            if (c < '0' || c > '9') {
+                return 0L;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private record DailyRanking(LocalDate date, Map<Integer, CategoryRanking> categories) {
+
+        static DailyRanking of(BestSellerSnapshot snapshot) {
+            Map<Integer, Map<Long, Short>> byCategory = new HashMap<>();
+            for (Map.Entry<BestSellerSnapshot.PageKey, BestSellerRes> page : snapshot.getPages().entrySet()) {
+                if (page.getValue().getItems() == null) {
+                    continue;
+                }
+                Map<Long, Short> ranks = byCategory.computeIfAbsent(page.getKey().category(), category -> new HashMap<>());
+                for (BestSellerBookRes item : page.getValue().getItems()) {
+                    long isbn = parseIsbn(item.getIsbn13());
+                    if (isbn != 0L) {
+                        // 같은 도서가 여러 번 나오면 높은 순위 사용
+                        ranks.merge(isbn, (short) item.getBestRank(), (a, b) -> (short) Math.min(a, b));
+                    }
+                }
+            }
+            Map<Integer, CategoryRanking> categories = new HashMap<>(byCategory.size() * 2);
+            byCategory.forEach((category, ranks) -> categories.put(category, CategoryRanking.of(ranks)));
+            return new DailyRanking(snapshot.getRefreshedAt().toLocalDate(), categories);
+        }
+    }
+
+    // ISBN 오름차순으로 정렬된 (ISBN, 순위) 평행 배열
+    private record CategoryRanking(long[] isbns, short[] ranks) {
+
+        static final int NEW_ENTRY = Integer.MIN_VALUE;
+
+        static CategoryRanking of(Map<Long, Short> ranks) {
+            long[] isbns = new long[ranks.size()];
+            int i = 0;
+            for (long isbn : ranks.keySet()) {
+                isbns[i++] = isbn;
+            }
+            Arrays.sort(isbns);
+            short[] sortedRanks = new short[isbns.length];
+            for (int j = 0; j < isbns.length; j++) {
+                sortedRanks[j] = ranks.get(isbns[j]);
+            }
+            return new CategoryRanking(isbns, sortedRanks);
+        }
+
+        int indexOf(long isbn) {
+            if (isbn == 0L) {
+                return -1;
+            }
+            int index = Arrays.binarySearch(isbns, isbn);
+            return index >= 0 ? index : -1;
+        }
+
+        // 두 배열 모두 ISBN 오름차순이므로 한 번의 병합 순회로 계산
+        // 결과[i] = 이전 순위 - 현재 순위 (양수면 상승), 이전 기록에 없으면 NEW_ENTRY
+        int[] deltasFrom(CategoryRanking before) {
+            int[] deltas = new int[isbns.length];
+            int j = 0;
+            for (int i = 0; i < isbns.length; i++) {
+                while (j < before.isbns.length && before.isbns[j] < isbns[i]) {
+                    j++;
+                }
+                if (j < before.isbns.length && before.isbns[j] == isbns[i]) {
+                    deltas[i] = before.ranks[j] - ranks[i];
+                } else {
+                    deltas[i] = NEW_ENTRY;
+                }
+            }
+            return deltas;
+        }
+    }
+}
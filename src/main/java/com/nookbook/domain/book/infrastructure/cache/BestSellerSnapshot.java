@@ -0,0 +1,62 @@
+package com.nookbook.domain.book.infrastructure.cache;
+
+import com.nookbook.domain.book.dto.response.BestSellerRes;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+// 한 번의 갱신으로 만들어진 전체 베스트셀러 (카테고리 x 페이지)
+// 불변 객체로, 갱신 시에는 새 스냅샷을 만들어 통째로 교체함
+// 응답용으로 미리 직렬화한 페이지도 같은 스냅샷에 담아, 객체와 바이트가 항상 같은 갱신 결과를 가리키도록 함
+@Getter
+public class BestSellerSnapshot {
+
+    private static final BestSellerSnapshot EMPTY = new BestSellerSnapshot(Map.of(), null);
+
+    private final Map<PageKey, BestSellerRes> pages;
+    private final Map<PageKey, EncodedBestSellerPage> encodedPages;
+    private final LocalDateTime refreshedAt;
+
+    public BestSellerSnapshot(Map<PageKey, BestSellerRes> pages, LocalDateTime refreshedAt) {
+        this(pages, Map.of(), refreshedAt);
+    }
+
+    private BestSellerSnapshot(Map<PageKey, BestSellerRes> pages, Map<PageKey, EncodedBestSellerPage> encodedPages, LocalDateTime refreshedAt) {
+        this.pages = Map.copyOf(pages);
+        this.encodedPages = Map.copyOf(encodedPages);
+        this.refreshedAt = refreshedAt;
+    }
+
+    public static BestSellerSnapshot empty() {
+        return EMPTY;
+    }
+
+    public BestSellerRes get(PageKey key) {
+        return pages.get(key);
+    }
+
+    public BestSellerRes get(int category, int page) {
+        return pages.get(new PageKey(category, page));
+    }
+
+    public EncodedBestSellerPage getEncoded(int category, int page) {
+        return encodedPages.get(new PageKey(category, page));
+    }
+
+    // 모든 페이지를 미리 직렬화한 새 스냅샷 반환
+    public BestSellerSnapshot encode(Function<BestSellerRes, EncodedBestSellerPage> encoder) {
+        Map<PageKey, EncodedBestSellerPage> encoded = new HashMap<>(pages.size() * 2);
+        pages.forEach((key, res) -> encoded.put(key, encoder.apply(res)));
+        return new BestSellerSnapshot(pages, encoded, refreshedAt);
+    }
+
+    public boolean isEmpty() {
+        return pages.isEmpty();
+    }
+
+    public record PageKey(int category, int page) {
+    }
+}
@@ -0,0 +1,142 @@
+package com.nookbook.domain.book.infrastructure.cache;
+
+import com.nookbook.domain.book.dto.response.BestSellerBookRes;
+import com.nookbook.domain.book.dto.response.BestSellerRes;
+import com.nookbook.domain.book.infrastructure.cache.BestSellerSnapshot.PageKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// 마지막으로 성공한 베스트셀러 스냅샷을 로컬 파일로 저장/복원
+// 서버 재시작 시 알라딘 호출 없이 캐시를 바로 채우기 위함
+//
+// 파일 형식 (길이 접두 바이너리)
+// [magic:int][version:short][refreshedAt:long][pageCount:int]
+//   pageCount x [category:int][page:int][totalResults:int][startIndex:int][itemsPerPage:int][itemCount:int]
+//     itemCount x [title:str][author:str][isbn13:str][cover:str][bestRank:int]
+// str = [present:boolean][modified UTF-8 (2byte 길이 접두)]
+@Slf4j
+@Component
+public class BestSellerSnapshotStore {
+
+    private static final int MAGIC = 0x4E4B4253; // "NKBS"
+    private static final short VERSION = 1;
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+
+    private final Path path;
+
+    public BestSellerSnapshotStore(@Value("${bestseller.snapshot.path}") String path) {
+        this.path = Path.of(path);
+    }
+
+    public void save(BestSellerSnapshot snapshot) {
+        if (snapshot.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            // 임시 파일에 쓴 뒤 교체하여 쓰는 도중 종료되어도 이전 파일이 깨지지 않도록 함
+            Path tempFile = Files.createTempFile(path.toAbsolutePath().getParent(), "best-seller", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                write(out, snapshot);
+            }
+            Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("베스트셀러 스냅샷 파일 저장 - {} ({} bytes)", path, Files.size(path));
+        } catch (IOException e) {
+            log.warn("베스트셀러 스냅샷 파일 저장 실패 - {}: {}", path, e.getMessage());
+        }
+    }
+
+    public Optional<BestSellerSnapshot> load() {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            return Optional.of(read(in));
+        } catch (IOException | RuntimeException e) {
+            log.warn("베스트셀러 스냅샷 파일 복원 실패 - {}: {}", path, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void write(DataOutputStream out, BestSellerSnapshot snapshot) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeLong(snapshot.getRefreshedAt().atZone(ZONE_ID).toInstant().toEpochMilli());
+        out.writeInt(snapshot.getPages().size());
+        for (Map.Entry<PageKey, BestSellerRes> entry : snapshot.getPages().entrySet()) {
+            BestSellerRes res = entry.getValue();
+            List<BestSellerBookRes> items = res.getItems() == null ? List.of() : res.getItems();
+            out.writeInt(entry.getKey().category());
+            out.writeInt(entry.getKey().page());
+            out.writeInt(res.getTotalResults());
+            out.writeInt(res.getStartIndex());
+            out.writeInt(res.getItemsPerPage());
+            out.writeInt(items.size());
+            for (BestSellerBookRes item : items) {
+                writeString(out, item.getTitle());
+                writeString(out, item.getAuthor());
+                writeString(out, item.getIsbn13());
+                writeString(out, item.getCover());
+                out.writeInt(item.getBestRank());
+            }
+        }
+    }
+
+    private BestSellerSnapshot read(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC || in.readShort() != VERSION) {
+            throw new IOException("지원하지 않는 스냅샷 파일 형식입니다.");
+        }
+        LocalDateTime refreshedAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(in.readLong()), ZONE_ID);
+        int pageCount = in.readInt();
+        Map<PageKey, BestSellerRes> pages = new HashMap<>(pageCount * 2);
+        for (int i = 0; i < pageCount; i++) {
+            PageKey key = new PageKey(in.readInt(), in.readInt());
+            int totalResults = in.readInt();
+            int startIndex = in.readInt();
+            int itemsPerPage = in.readInt();
+            int itemCount = in.readInt();
+            List<BestSellerBookRes> items = new ArrayList<>(itemCount);
+            for (int j = 0; j < itemCount; j++) {
+                items.add(BestSellerBookRes.builder()
+                        .title(readString(in))
+                        .author(readString(in))
+                        .isbn13(readString(in))
+                        .cover(readString(in))
+                        .bestRank(in.readInt())
+                        .build());
+            }
+            pages.put(key, BestSellerRes.builder()
+                    .totalResults(totalResults)
+                    .startIndex(startIndex)
+                    .itemsPerPage(itemsPerPage)
+                    .items(items)
+                    .build());
+        }
+        return new BestSellerSnapshot(pages, refreshedAt);
+    }
+
+    private void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,181 @@
+package com.nookbook.domain.book.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nookbook.domain.book.domain.Book;
+import com.nookbook.domain.book.domain.BookContent;
+import com.nookbook.domain.book.domain.repository.BookRepository;
+import com.nookbook.domain.book.domain.repository.IsbnContent;
+import com.nookbook.domain.book.dto.response.BookDetailRes;
+import com.nookbook.domain.book.exception.BookNotFoundException;
+import com.nookbook.domain.book.infrastructure.aladin.AladinService;
+import com.nookbook.domain.book.infrastructure.search.LocalBookIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+// ISBN -> Book read-through 캐시
+// 같은 ISBN에 대한 동시 요청은 하나의 로딩(Future)을 공유하므로, 알라딘 조회와 저장은 ISBN당 한 번만 일어남
+// Book의 TEXT 컬럼은 지연 로딩이므로, 상세 조회에 필요한 소개/목차는 BookContent로 함께 보관
+@Slf4j
+@Component
+public class BookCatalogCache {
+
+    private static final String CACHE_NAME = "bookCatalog";
+    // 여러 도서를 한 번에 조회할 때 동시에 진행할 알라딘 호출 수 (LOOKUP 커넥션 풀 크기 이하로 유지)
+    private static final int FETCH_CONCURRENCY = 4;
+
+    private final BookRepository bookRepository;
+    private final AladinService aladinService;
+    private final LocalBookIndex localBookIndex;
+
+    private final AsyncCache<String, CatalogBook> cache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterAccess(Duration.ofHours(6))
+            .recordStats()
+            .buildAsync();
+
+    public BookCatalogCache(BookRepository bookRepository, AladinService aladinService, LocalBookIndex localBookIndex, MeterRegistry meterRegistry) {
+        this.bookRepository = bookRepository;
+        this.aladinService = aladinService;
+        this.localBookIndex = localBookIndex;
+        // cache.gets(hit/miss), cache.load.duration 등의 통계를 메트릭으로 노출
+        new CaffeineCacheMetrics<>(cache.synchronous(), CACHE_NAME, Tags.empty()).bindTo(meterRegistry);
+    }
+
+    public CatalogBook get(String isbn13) {
+        try {
+            CatalogBook catalogBook = cache.get(isbn13, (key, executor) -> load(key)).join();
+            if (catalogBook == null) {
+                throw new BookNotFoundException();
+            }
+            return catalogBook;
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // 여러 ISBN을 한 번에 조회 (캐시에 없는 ISBN은 IN 쿼리로 함께 조회하고, DB에도 없으면 알라딘에서 동시에 조회)
+    // 찾을 수 없는 ISBN은 결과에서 제외
+    public Map<String, CatalogBook> getAll(Collection<String> isbns) {
+        try {
+            return cache.getAll(isbns, (keys, executor) -> loadAll(keys)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public void evict(String isbn13) {
+        cache.synchronous().invalidate(isbn13);
+    }
+
+    // DB에 있으면 DB에서, 없으면 알라딘에서 조회한 뒤 저장
+    private CompletableFuture<CatalogBook> load(String isbn13) {
+        return Mono.fromCallable(() -> bookRepository.findByIsbn(isbn13).map(this::withContent))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(book -> book.map(Mono::just).orElseGet(() -> fetchAndSave(isbn13)))
+                .toFuture();
+    }
+
+    private CompletableFuture<Map<String, CatalogBook>> loadAll(Set<? extends String> isbns) {
+        return Mono.fromCallable(() -> findAllWithContent(isbns))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(found -> Flux.fromIterable(isbns)
+                        .filter(isbn -> !found.containsKey(isbn))
+                        .flatMap(isbn -> fetchAndSave(isbn)
+                                // 일부 도서의 조회 실패가 전체 조회를 실패시키지 않도록 함
+                                .onErrorResume(e -> {
+                                    log.warn("도서 정보 조회 실패 - isbn: {}, cause: {}", isbn, e.getMessage());
+                                    return Mono.empty();
+                                }), FETCH_CONCURRENCY)
+                        .collectList()
+                        .map(fetched -> {
+                            Map<String, CatalogBook> result = new HashMap<>(found);
+                            fetched.forEach(catalogBook -> result.put(catalogBook.book().getIsbn(), catalogBook));
+                            return result;
+                        }))
+                .toFuture();
+    }
+
+    // 도서와 소개/목차를 각각 IN 쿼리 한 번으로 조회
+    private Map<String, CatalogBook> findAllWithContent(Set<? extends String> isbns) {
+        List<Book> books = bookRepository.findByIsbnIn(new ArrayList<>(isbns));
+        if (books.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, BookContent> contents = new HashMap<>(books.size() * 2);
+        for (IsbnContent content : bookRepository.findContentsByIsbnIn(new ArrayList<>(isbns))) {
+            contents.put(content.getIsbn(), new BookContent(content.getInfo(), content.getIdx()));
+        }
+        Map<String, CatalogBook> found = new HashMap<>(books.size() * 2);
+        for (Book book : books) {
+            found.put(book.getIsbn(), new CatalogBook(book, contents.getOrDefault(book.getIsbn(), BookContent.empty())));
+        }
+        return found;
+    }
+
+    private Mono<CatalogBook> fetchAndSave(String isbn13) {
+        return aladinService.callAladinBookDetail(isbn13)
+                // 파싱할 수 없는 응답은 검색 결과 없음과 동일하게 처리
+                .onErrorResume(UncheckedIOException.class, e -> {
+                    log.warn("Error converting JSON to BookRes: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .publishOn(Schedulers.boundedElastic())
+                .map(this::saveBookInfo);
+    }
+
+    private CatalogBook saveBookInfo(BookDetailRes bookDetailRes) {
+        Book book = Book.builder()
+                .title(bookDetailRes.getTitle())
+                .author(bookDetailRes.getAuthor())
+                .publisher(bookDetailRes.getPublisher())
+                .image(bookDetailRes.getCover())
+                .page(bookDetailRes.getPage())
+                .isbn(bookDetailRes.getIsbn13())
+                .publishedDate(LocalDate.parse(bookDetailRes.getPubDate()))
+                .info(bookDetailRes.getDescription())
+                .idx(bookDetailRes.getToc())
+                .link(bookDetailRes.getLink())
+                .category(bookDetailRes.getCategory()).build();
+        try {
+            Book saved = bookRepository.save(book);
+            // 새로 저장된 도서는 로컬 검색 색인에 바로 반영
+            localBookIndex.add(saved);
+            return new CatalogBook(saved, new BookContent(bookDetailRes.getDescription(), bookDetailRes.getToc()));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 서버 인스턴스가 먼저 저장한 경우, 저장된 도서를 사용
+            log.info("이미 저장된 도서입니다 - isbn: {}", bookDetailRes.getIsbn13());
+            return bookRepository.findByIsbn(bookDetailRes.getIsbn13())
+                    .map(this::withContent)
+                    .orElseThrow(BookNotFoundException::new);
+        }
+    }
+
+    private CatalogBook withContent(Book book) {
+        BookContent content = bookRepository.findContentByBookId(book.getBookId()).orElseGet(BookContent::empty);
+        return new CatalogBook(book, content);
+    }
+
+    public record CatalogBook(Book book, BookContent content) {
+    }
+}
@@ -0,0 +1,51 @@
+package com.nookbook.domain.book.infrastructure.cache;
+
+import lombok.Getter;
+
+// 갱신 시점에 미리 직렬화해 둔 베스트셀러 페이지
+// 요청마다 Jackson 직렬화를 하지 않고 바이트를 그대로 응답하며, 내용 해시로 만든 ETag로 304 응답을 판단
+@Getter
+public class EncodedBestSellerPage {
+
+    private final byte[] json;
+    // 압축 효과가 없으면 null
+    private final byte[] gzip;
+    // 본문(json)의 해시
+    private final String hash;
+
+    public EncodedBestSellerPage(byte[] json, byte[] gzip, String hash) {
+        this.json = json;
+        this.gzip = gzip;
+        this.hash = hash;
+    }
+
+    public boolean hasGzip() {
+        return gzip != null;
+    }
+
+    // 표현(인코딩)별로 다른 강한 ETag 사용
+    public String getEtag() {
+        return "\"" + hash + "\"";
+    }
+
+    public String getGzipEtag() {
+        return "\"" + hash + "-gzip\"";
+    }
+
+    // If-None-Match는 약한 비교 (W/ 접두 무시)
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            String candidate = tag.strip();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals("*") || candidate.equals(getEtag()) || candidate.equals(getGzipEtag())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,123 @@
+package com.nookbook.domain.book.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.nookbook.domain.book.dto.response.SearchRes;
+import com.nookbook.domain.book.infrastructure.aladin.AladinService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.io.UncheckedIOException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+// 알라딘 키워드 검색 결과 캐시
+// 정규화된 검색어 + 페이지를 키로, 파싱된 SearchRes를 저장
+// stale-while-revalidate: RESULT_TTL이 지난 결과도 STALE_TTL까지는 그대로 응답하면서 백그라운드에서 한 번만 다시 조회
+// 다시 조회에 실패하면(알라딘 장애, 서킷 차단, 호출 한도 부족) 기존 결과를 계속 사용
+@Slf4j
+@Component
+public class SearchResultCache {
+
+    private static final String CACHE_NAME = "searchResults";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // 캐시에 담을 수 있는 최대 도서 수 (엔트리 수가 아닌 item 수 기준)
+    private static final long MAX_WEIGHT = 50_000;
+    private static final Duration RESULT_TTL = Duration.ofMinutes(30);
+    // 오래된 결과를 응답할 수 있는 최대 시간
+    private static final Duration STALE_TTL = Duration.ofHours(6);
+    // 결과가 없는 검색(오타 등)은 짧게 캐싱
+    private static final Duration EMPTY_RESULT_TTL = Duration.ofMinutes(2);
+
+    private final AladinService aladinService;
+
+    private final Counter staleCounter;
+
+    private final AsyncLoadingCache<SearchKey, Entry> cache = Caffeine.newBuilder()
+            .maximumWeight(MAX_WEIGHT)
+            .weigher((SearchKey key, Entry value) -> itemCount(value.res()) + 1)
+            .expireAfter(new Expiry<SearchKey, Entry>() {
+                @Override
+                public long expireAfterCreate(SearchKey key, Entry value, long currentTime) {
+                    return ttl(value.res()).toNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(SearchKey key, Entry value, long currentTime, long currentDuration) {
+                    return ttl(value.res()).toNanos();
+                }
+
+                @Override
+                public long expireAfterRead(SearchKey key, Entry value, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .refreshAfterWrite(RESULT_TTL)
+            .recordStats()
+            .buildAsync((key, executor) -> load(key));
+
+    public SearchResultCache(AladinService aladinService, MeterRegistry meterRegistry) {
+        this.aladinService = aladinService;
+        this.staleCounter = meterRegistry.counter("cache.stale.served", "cache", CACHE_NAME);
+        new CaffeineCacheMetrics<>(cache.synchronous(), CACHE_NAME, Tags.empty()).bindTo(meterRegistry);
+    }
+
+    public Mono<SearchRes> search(String keyword, int page) {
+        SearchKey key = new SearchKey(normalize(keyword), page);
+        CompletableFuture<Entry> future = cache.get(key);
+        // 공유 Future가 한 구독자의 취소로 함께 취소되지 않도록 파생 Future를 구독
+        return Mono.fromFuture(future.thenApply(Function.identity()))
+                .map(entry -> {
+                    if (entry.isStale()) {
+                        staleCounter.increment();
+                    }
+                    return entry.res();
+                });
+    }
+
+    // 같은 검색어가 하나의 키로 모이도록 NFC 정규화 + 공백 정리 + 소문자 변환
+    public static String normalize(String keyword) {
+        String normalized = Normalizer.normalize(keyword, Normalizer.Form.NFC).strip();
+        return WHITESPACE.matcher(normalized).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    private CompletableFuture<Entry> load(SearchKey key) {
+        return aladinService.callAladinSearchBooks(key.keyword(), key.page())
+                // 파싱할 수 없는 응답은 빈 결과로 (짧게 캐싱)
+                .onErrorResume(UncheckedIOException.class, e -> {
+                    log.warn("Error converting JSON to SearchRes: {}", e.getMessage());
+                    return Mono.just(new SearchRes());
+                })
+                .map(res -> new Entry(res, System.nanoTime()))
+                .toFuture();
+    }
+
+    private static Duration ttl(SearchRes value) {
+        return itemCount(value) == 0 ? EMPTY_RESULT_TTL : STALE_TTL;
+    }
+
+    private static int itemCount(SearchRes value) {
+        return value.getItems() == null ? 0 : value.getItems().size();
+    }
+
+    private record SearchKey(String keyword, int page) {
+    }
+
+    private record Entry(SearchRes res, long loadedAt) {
+
+        boolean isStale() {
+            return System.nanoTime() - loadedAt > RESULT_TTL.toNanos();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.nookbook.domain.book.infrastructure.recommendation;
+
+import java.util.Arrays;
+
+// long -> int 해시 맵 (open addressing, linear probing)
+// 수백만 건의 (도서, 도서) 쌍을 집계할 때 Long/Integer 박싱과 Entry 객체 없이 배열 두 개만 사용
+// key 0은 빈 슬롯 표시로 사용하므로 저장할 수 없음
+public class LongIntHashMap {
+
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int resizeAt;
+    private int size;
+
+    public LongIntHashMap(int expectedSize) {
+        allocate(tableSize(expectedSize));
+    }
+
+    // 더한 뒤의 값을 반환
+    public int addTo(long key, int delta) {
+        if (key == 0L) {
+            throw new IllegalArgumentException("key 0은 사용할 수 없습니다.");
+        }
+        int slot = slot(key);
+        while (keys[slot] != 0L) {
+            if (keys[slot] == key) {
+                return values[slot] += delta;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = delta;
+        if (++size > resizeAt) {
+            resize();
+        }
+        return delta;
+    }
+
+    // 없으면 0
+    public int get(long key) {
+        if (key == 0L) {
+            return 0;
+        }
+        int slot = slot(key);
+        while (keys[slot] != 0L) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // 오름차순으로 정렬된 key 배열 (디스크에 정렬된 상태로 내려 쓰기 위함)
+    public long[] sortedKeys() {
+        long[] sorted = new long[size];
+        int i = 0;
+        for (long key : keys) {
+            if (key != 0L) {
+                sorted[i++] = key;
+            }
+        }
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    // 배열은 그대로 두고 재사용
+    public void clear() {
+        Arrays.fill(keys, 0L);
+        Arrays.fill(values, 0);
+        size = 0;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(keys.length << 1);
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key == 0L) {
+                continue;
+            }
+            int slot = slot(key);
+            while (keys[slot] != 0L) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = oldValues[i];
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private int slot(long key) {
+        // 연속된 id가 같은 구간에 몰리지 않도록 비트를 섞음 (MurmurHash3 fmix64)
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return (int) key & mask;
+    }
+
+    private static int tableSize(int expectedSize) {
+        long required = (long) Math.ceil(Math.max(expectedSize, 4) / LOAD_FACTOR);
+        long capacity = Long.highestOneBit(required - 1) << 1;
+        if (capacity > (1 << 30)) {
+            throw new IllegalArgumentException("너무 큰 맵입니다: " + expectedSize);
+        }
+        return (int) capacity;
+    }
+}
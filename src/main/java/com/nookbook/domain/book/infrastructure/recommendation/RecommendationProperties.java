@@ -0,0 +1,34 @@
+package com.nookbook.domain.book.infrastructure.recommendation;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "recommendation.similar-books")
+@Getter
+@Setter
+public class RecommendationProperties {
+
+    private boolean enabled = true;
+
+    // 도서별로 보관할 유사 도서 수
+    private int topK = 20;
+
+    // 이 수 이상의 사용자가 함께 읽은/담은 도서만 유사 도서로 사용
+    private int minCoOccurrence = 2;
+
+    // 한 사용자에서 집계할 최대 도서 수 (쌍의 수는 도서 수의 제곱으로 늘어남)
+    private int maxBasketSize = 300;
+
+    // 메모리에 둘 최대 (도서, 도서) 쌍 수, 초과하면 정렬해서 임시 파일로 내려 씀
+    // 1쌍 = long + int, 적재율 0.6 기준 약 20byte
+    private int maxPairsInMemory = 2_000_000;
+
+    // 임시 파일 경로 (기본값: java.io.tmpdir)
+    private String spillDirectory;
+
+    // 한 번에 DB에서 읽어 올 행 수
+    private int chunkSize = 1_000;
+}
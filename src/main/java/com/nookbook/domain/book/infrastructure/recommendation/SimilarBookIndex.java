@@ -0,0 +1,47 @@
+package com.nookbook.domain.book.infrastructure.recommendation;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// "이 책을 읽은 사용자가 함께 읽은 책" 조회용 메모리 색인
+// bookSimilarityJob이 만든 SimilarBooks를 통째로 교체하며, 조회 시에는 DB를 호출하지 않음
+@Slf4j
+@Component
+public class SimilarBookIndex {
+
+    private volatile SimilarBooks similarBooks = SimilarBooks.empty();
+
+    public SimilarBookIndex(MeterRegistry meterRegistry) {
+        Gauge.builder("recommendation.similar.books", this, it -> it.similarBooks.size()).register(meterRegistry);
+        Gauge.builder("recommendation.similar.neighbours", this, it -> it.similarBooks.neighbourCount()).register(meterRegistry);
+    }
+
+    // 유사도 내림차순
+    public List<SimilarBook> similar(long bookId, int limit) {
+        SimilarBooks current = similarBooks;
+        int index = current.indexOf(bookId);
+        if (index < 0 || limit <= 0) {
+            return List.of();
+        }
+        int from = current.from(index);
+        int to = Math.min(current.to(index), from + limit);
+        List<SimilarBook> result = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            result.add(new SimilarBook(current.neighbourId(i), current.score(i)));
+        }
+        return result;
+    }
+
+    public void publish(SimilarBooks rebuilt) {
+        similarBooks = rebuilt;
+        log.info("유사 도서 색인 교체 - 도서: {}, 관계: {}", rebuilt.size(), rebuilt.neighbourCount());
+    }
+
+    public record SimilarBook(long bookId, float score) {
+    }
+}
@@ -0,0 +1,100 @@
+package com.nookbook.domain.book.infrastructure.recommendation;
+
+import java.util.Arrays;
+
+// 도서별 유사 도서 top-K (CSR 형태의 배열 4개)
+// bookIds[i]의 유사 도서는 neighbourIds[offsets[i] .. offsets[i + 1]) 이고, 점수 내림차순으로 정렬되어 있음
+public class SimilarBooks {
+
+    private static final SimilarBooks EMPTY = new SimilarBooks(new long[0], new int[]{0}, new long[0], new float[0]);
+
+    private final long[] bookIds;
+    private final int[] offsets;
+    private final long[] neighbourIds;
+    private final float[] scores;
+
+    private SimilarBooks(long[] bookIds, int[] offsets, long[] neighbourIds, float[] scores) {
+        this.bookIds = bookIds;
+        this.offsets = offsets;
+        this.neighbourIds = neighbourIds;
+        this.scores = scores;
+    }
+
+    public static SimilarBooks empty() {
+        return EMPTY;
+    }
+
+    // 도서 수
+    public int size() {
+        return bookIds.length;
+    }
+
+    // 저장된 유사 도서 관계 수
+    public int neighbourCount() {
+        return neighbourIds.length;
+    }
+
+    // 유사 도서 위치 (없으면 -1)
+    public int indexOf(long bookId) {
+        int index = Arrays.binarySearch(bookIds, bookId);
+        return index >= 0 ? index : -1;
+    }
+
+    public int from(int index) {
+        return offsets[index];
+    }
+
+    public int to(int index) {
+        return offsets[index + 1];
+    }
+
+    public long neighbourId(int position) {
+        return neighbourIds[position];
+    }
+
+    public float score(int position) {
+        return scores[position];
+    }
+
+    // bookId 오름차순으로 추가해야 함
+    public static class Builder {
+
+        private long[] bookIds = new long[1024];
+        private int[] offsets = new int[1025];
+        private long[] neighbourIds = new long[1024 * 8];
+        private float[] scores = new float[1024 * 8];
+        private int bookCount;
+        private int neighbourCount;
+
+        public void add(long bookId, long[] neighbours, float[] neighbourScores, int count) {
+            if (count == 0) {
+                return;
+            }
+            if (bookCount > 0 && bookIds[bookCount - 1] >= bookId) {
+                throw new IllegalStateException("bookId 오름차순으로 추가해야 합니다.");
+            }
+            if (bookCount == bookIds.length) {
+                bookIds = Arrays.copyOf(bookIds, bookCount << 1);
+                offsets = Arrays.copyOf(offsets, (bookCount << 1) + 1);
+            }
+            if (neighbourCount + count > neighbourIds.length) {
+                int capacity = Math.max(neighbourIds.length << 1, neighbourCount + count);
+                neighbourIds = Arrays.copyOf(neighbourIds, capacity);
+                scores = Arrays.copyOf(scores, capacity);
+            }
+            bookIds[bookCount] = bookId;
+            System.arraycopy(neighbours, 0, neighbourIds, neighbourCount, count);
+            System.arraycopy(neighbourScores, 0, scores, neighbourCount, count);
+            neighbourCount += count;
+            offsets[++bookCount] = neighbourCount;
+        }
+
+        public SimilarBooks build() {
+            return new SimilarBooks(
+                    Arrays.copyOf(bookIds, bookCount),
+                    Arrays.copyOf(offsets, bookCount + 1),
+                    Arrays.copyOf(neighbourIds, neighbourCount),
+                    Arrays.copyOf(scores, neighbourCount));
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.nookbook.domain.book.infrastructure.search;
+
+import com.nookbook.domain.book.domain.Book;
+import com.nookbook.domain.book.domain.repository.BookRepository;
+import com.nookbook.domain.book.dto.response.SearchBookRes;
+import com.nookbook.domain.book.dto.response.SearchRes;
+import com.nookbook.domain.book.infrastructure.cache.SearchResultCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Book 테이블 기반 로컬 검색 색인 (1차 검색 엔진)
+// 제목/저자/출판사/카테고리를 정규화한 뒤 글자 단위 bigram으로 역색인 (한글은 형태소 분석 없이도 bigram으로 충분히 매칭됨)
+// 검색어의 모든 bigram을 포함하는 도서를 찾고, 제목에 검색어가 그대로 포함된 도서를 우선 정렬
+@Slf4j
+@Component
+public class LocalBookIndex {
+
+    private static final int PAGE_SIZE = 10;
+    // 한 번의 검색에서 정렬할 최대 결과 수
+    private static final int MAX_HITS = 1_000;
+
+    private final BookRepository bookRepository;
+    private final LocalSearchProperties properties;
+
+    // 재색인 시 새 색인을 만든 뒤 통째로 교체
+    private volatile Index index = new Index();
+
+    private final Timer searchTimer;
+    private final Counter hitCounter;
+    private final Counter fallbackCounter;
+
+    public LocalBookIndex(BookRepository bookRepository, LocalSearchProperties properties, MeterRegistry meterRegistry) {
+        this.bookRepository = bookRepository;
+        this.properties = properties;
+        // 알라딘 검색 지연(cache.load.duration, searchResults)과 비교할 수 있도록 로컬 검색 시간 기록
+        this.searchTimer = meterRegistry.timer("search.local.duration");
+        this.hitCounter = meterRegistry.counter("search.local.hits");
+        this.fallbackCounter = meterRegistry.counter("search.local.fallbacks");
+        Gauge.builder("search.local.index.books", this, it -> it.index.size()).register(meterRegistry);
+        Gauge.builder("search.local.index.postings", this, it -> it.index.postingCount()).register(meterRegistry);
+    }
+
+    // 결과가 부족하면 빈 Optional (알라딘으로 검색)
+    // 검색 대상은 페이지와 관계없이 전체 결과 수로 정하므로, 같은 검색어의 모든 페이지가 같은 곳에서 조회됨
+    // (마지막 페이지 이후는 알라딘으로 넘기지 않고 빈 페이지로 응답)
+    public Optional<SearchRes> search(String keyword, int page) {
+        return search(keyword, page, properties.getMinResults());
+    }
+
+    public Optional<SearchRes> search(String keyword, int page, int minResults) {
+        if (!properties.isEnabled() || page < 1) {
+            return Optional.empty();
+        }
+        long startedAt = System.nanoTime();
+        List<SearchBookRes> hits = index.search(SearchResultCache.normalize(keyword));
+        searchTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+        int from = (page - 1) * PAGE_SIZE;
+        if (hits.size() < minResults) {
+            fallbackCounter.increment();
+            return Optional.empty();
+        }
+        hitCounter.increment();
+        return Optional.of(SearchRes.builder()
+                .totalResults(hits.size())
+                .startIndex(page)
+                .itemsPerPage(PAGE_SIZE)
+                .items(from >= hits.size() ? List.of() : List.copyOf(hits.subList(from, Math.min(from + PAGE_SIZE, hits.size()))))
+                .build());
+    }
+
+    // 새로 저장된 도서를 바로 색인
+    public void add(Book book) {
+        if (properties.isEnabled()) {
+            index.add(book, properties);
+        }
+    }
+
+    // DB 전체를 id 순으로 읽어 새 색인을 만든 뒤 교체
+    public void rebuild() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        Index rebuilt = new Index();
+        long lastId = indexFrom(rebuilt, 0L);
+        index = rebuilt;
+        // 재색인 도중 기존 색인에만 추가된 도서 반영
+        indexFrom(rebuilt, lastId);
+        log.info("로컬 검색 색인 재생성 - {}ms, 도서: {}, postings: {}",
+                System.currentTimeMillis() - startedAt, rebuilt.size(), rebuilt.postingCount());
+    }
+
+    private long indexFrom(Index target, long lastId) {
+        PageRequest pageRequest = PageRequest.of(0, properties.getRebuildPageSize());
+        List<Book> books;
+        do {
+            books = bookRepository.findByBookIdGreaterThanOrderByBookIdAsc(lastId, pageRequest);
+            for (Book book : books) {
+                target.add(book, properties);
+                lastId = book.getBookId();
+            }
+        } while (books.size() == pageRequest.getPageSize());
+        return lastId;
+    }
+
+    // 두 글자를 하나의 int 키로
+    private static int bigram(char first, char second) {
+        return (first << 16) | second;
+    }
+
+    // 공백으로 나눈 단어마다 bigram 추출 (한 글자 단어는 제외)
+    private static int[] bigrams(String normalized) {
+        int[] keys = new int[Math.max(normalized.length() - 1, 0)];
+        int count = 0;
+        for (int i = 0; i + 1 < normalized.length(); i++) {
+            char first = normalized.charAt(i);
+            char second = normalized.charAt(i + 1);
+            if (first != ' ' && second != ' ') {
+                keys[count++] = bigram(first, second);
+            }
+        }
+        return Arrays.stream(keys, 0, count).distinct().toArray();
+    }
+
+    private static final class Index {
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final List<SearchBookRes> books = new ArrayList<>();
+        // 순위 계산용 정규화된 제목
+        private final List<String> titles = new ArrayList<>();
+        private final Set<String> isbns = new HashSet<>();
+        private final Map<Integer, Postings> postings = new HashMap<>();
+        private long postingCount;
+        private boolean budgetExceeded;
+
+        void add(Book book, LocalSearchProperties properties) {
+            String title = normalize(book.getTitle());
+            int[] keys = bigrams(String.join(" ", title,
+                    normalize(book.getAuthor()), normalize(book.getPublisher()), normalize(book.getCategory())));
+            lock.writeLock().lock();
+            try {
+                if (isbns.contains(book.getIsbn())) {
+                    return;
+                }
+                if (books.size() >= properties.getMaxBooks() || postingCount + keys.length > properties.getMaxPostings()) {
+                    if (!budgetExceeded) {
+                        budgetExceeded = true;
+                        log.warn("로컬 검색 색인 메모리 상한 도달 - 도서: {}, postings: {}", books.size(), postingCount);
+                    }
+                    return;
+                }
+                int docId = books.size();
+                books.add(toSearchBookRes(book));
+                titles.add(title);
+                isbns.add(book.getIsbn());
+                for (int key : keys) {
+                    postings.computeIfAbsent(key, k -> new Postings()).add(docId);
+                }
+                postingCount += keys.length;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        List<SearchBookRes> search(String query) {
+            int[] keys = bigrams(query);
+            if (keys.length == 0) {
+                return List.of();
+            }
+            lock.readLock().lock();
+            try {
+                Postings[] lists = new Postings[keys.length];
+                for (int i = 0; i < keys.length; i++) {
+                    lists[i] = postings.get(keys[i]);
+                    if (lists[i] == null) {
+                        return List.of();
+                    }
+                }
+                // 가장 짧은 목록부터 교집합
+                Arrays.sort(lists, Comparator.comparingInt(Postings::size));
+                int[] candidates = Arrays.copyOf(lists[0].ids, lists[0].size);
+                int count = candidates.length;
+                for (int i = 1; i < lists.length && count > 0; i++) {
+                    count = lists[i].retainAll(candidates, count);
+                }
+
+                // 제목에 검색어가 포함된 도서 먼저, 그 안에서는 최근 색인된 도서 먼저
+                List<SearchBookRes> titleHits = new ArrayList<>();
+                List<SearchBookRes> otherHits = new ArrayList<>();
+                for (int i = count - 1; i >= 0 && titleHits.size() < MAX_HITS; i--) {
+                    int docId = candidates[i];
+                    if (titles.get(docId).contains(query)) {
+                        titleHits.add(books.get(docId));
+                    } else if (titleHits.size() + otherHits.size() < MAX_HITS) {
+                        otherHits.add(books.get(docId));
+                    }
+                }
+                titleHits.addAll(otherHits);
+                return titleHits.size() > MAX_HITS ? titleHits.subList(0, MAX_HITS) : titleHits;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        int size() {
+            lock.readLock().lock();
+            try {
+                return books.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        long postingCount() {
+            lock.readLock().lock();
+            try {
+                return postingCount;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private static String normalize(String value) {
+            return value == null ? "" : SearchResultCache.normalize(value);
+        }
+
+        private static SearchBookRes toSearchBookRes(Book book) {
+            return SearchBookRes.builder()
+                    .title(book.getTitle())
+                    .author(book.getAuthor())
+                    .pubDate(book.getPublishedDate() == null ? null : book.getPublishedDate().toString())
+                    .isbn13(book.getIsbn())
+                    .cover(book.getImage())
+                    .publisher(book.getPublisher())
+                    .build();
+        }
+    }
+
+    // 오름차순 docId 목록 (docId는 추가 순서대로 증가하므로 정렬 유지)
+    private static final class Postings {
+
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int docId) {
+            if (size > 0 && ids[size - 1] == docId) {
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size + (size >> 1));
+            }
+            ids[size++] = docId;
+        }
+
+        int size() {
+            return size;
+        }
+
+        // candidates[0..count) 중 이 목록에도 있는 것만 남기고 남은 개수 반환
+        int retainAll(int[] candidates, int count) {
+            int kept = 0;
+            int from = 0;
+            for (int i = 0; i < count; i++) {
+                int found = Arrays.binarySearch(ids, from, size, candidates[i]);
+                if (found >= 0) {
+                    candidates[kept++] = candidates[i];
+                    from = found + 1;
+                } else {
+                    from = -found - 1;
+                }
+            }
+            return kept;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.nookbook.domain.book.infrastructure.search;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "search.local-index")
+@Getter
+@Setter
+public class LocalSearchProperties {
+
+    private boolean enabled = true;
+
+    // 로컬 검색 결과가 이 수보다 적으면 알라딘으로 검색
+    private int minResults = 10;
+
+    // 메모리 사용량 상한 (초과하면 더 이상 색인하지 않음)
+    // postings 1건 = int 4byte
+    private int maxBooks = 200_000;
+    private long maxPostings = 5_000_000;
+
+    // 한 번에 DB에서 읽어 올 도서 수 (재색인 시)
+    private int rebuildPageSize = 1_000;
+}
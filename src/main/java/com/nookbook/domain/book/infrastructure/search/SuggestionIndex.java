@@ -0,0 +1,202 @@
+package com.nookbook.domain.book.infrastructure.search;
+
+import com.nookbook.domain.book.domain.repository.BookRepository;
+import com.nookbook.domain.book.domain.repository.TermFrequency;
+import com.nookbook.domain.book.infrastructure.cache.SearchResultCache;
+import com.nookbook.domain.keyword.domain.repository.KeywordRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+// 검색어 자동완성 색인
+// 도서 제목 + 여러 사용자가 검색한 검색어를 정규화해 정렬 배열로 보관하고, 접두어 범위를 이진 탐색으로 찾음
+// 범위 안의 인기순 상위 N개는 인기도 최댓값 세그먼트 트리로 구하므로 범위 크기와 무관하게 O(N log n)
+// 조회 시에는 DB, 알라딘 어느 쪽도 호출하지 않음
+@Slf4j
+@Component
+public class SuggestionIndex {
+
+    private final BookRepository bookRepository;
+    private final KeywordRepository keywordRepository;
+    // 이 수 이상의 사용자가 검색한 검색어만 추천에 사용
+    private final int minKeywordUsers;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    private final Timer suggestTimer;
+
+    public SuggestionIndex(BookRepository bookRepository, KeywordRepository keywordRepository,
+                           @Value("${search.suggestion.min-keyword-users:3}") int minKeywordUsers, MeterRegistry meterRegistry) {
+        this.bookRepository = bookRepository;
+        this.keywordRepository = keywordRepository;
+        this.minKeywordUsers = minKeywordUsers;
+        this.suggestTimer = meterRegistry.timer("search.suggestion.duration");
+        Gauge.builder("search.suggestion.terms", this, it -> it.snapshot.size()).register(meterRegistry);
+    }
+
+    public List<String> suggest(String prefix, int limit) {
+        if (prefix == null || limit <= 0) {
+            return List.of();
+        }
+        String normalized = SearchResultCache.normalize(prefix);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        long startedAt = System.nanoTime();
+        List<String> suggestions = snapshot.suggest(normalized, limit);
+        suggestTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return suggestions;
+    }
+
+    // 도서 제목(서재에 담은 사용자 수 + 1)과 검색어(검색한 사용자 수, minKeywordUsers명 이상)의 빈도를 합산해 새 색인으로 교체
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        Map<String, Term> terms = new HashMap<>();
+        for (TermFrequency title : bookRepository.countReadersByTitle()) {
+            merge(terms, title.getTerm(), title.getFrequency() + 1, true);
+        }
+        for (TermFrequency keyword : keywordRepository.countUsersByContent(minKeywordUsers)) {
+            merge(terms, keyword.getTerm(), keyword.getFrequency(), false);
+        }
+        Snapshot rebuilt = Snapshot.of(terms);
+        snapshot = rebuilt;
+        log.info("검색어 추천 색인 재생성 - {}ms, 단어: {}", System.currentTimeMillis() - startedAt, rebuilt.size());
+    }
+
+    private void merge(Map<String, Term> terms, String text, long frequency, boolean title) {
+        if (text == null) {
+            return;
+        }
+        String key = SearchResultCache.normalize(text);
+        if (key.isEmpty()) {
+            return;
+        }
+        Term term = terms.computeIfAbsent(key, k -> new Term(text));
+        term.weight += frequency;
+        // 같은 단어면 도서 제목의 원래 표기를 우선 노출
+        if (title) {
+            term.display = text;
+        }
+    }
+
+    private static final class Term {
+
+        private String display;
+        private long weight;
+
+        private Term(String display) {
+            this.display = display;
+        }
+    }
+
+    private static final class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(new String[0], new String[0], new long[0]);
+
+        // 정규화된 단어 (오름차순)
+        private final String[] keys;
+        private final String[] displays;
+        private final long[] weights;
+        // 인기도 최댓값 위치를 담은 세그먼트 트리 (tree[n + i] = i)
+        private final int[] tree;
+
+        private Snapshot(String[] keys, String[] displays, long[] weights) {
+            this.keys = keys;
+            this.displays = displays;
+            this.weights = weights;
+            int n = keys.length;
+            this.tree = new int[2 * n];
+            for (int i = 0; i < n; i++) {
+                tree[n + i] = i;
+            }
+            for (int i = n - 1; i > 0; i--) {
+                tree[i] = better(tree[2 * i], tree[2 * i + 1]);
+            }
+        }
+
+        static Snapshot of(Map<String, Term> terms) {
+            String[] keys = terms.keySet().toArray(new String[0]);
+            Arrays.sort(keys);
+            String[] displays = new String[keys.length];
+            long[] weights = new long[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                Term term = terms.get(keys[i]);
+                displays[i] = term.display;
+                weights[i] = term.weight;
+            }
+            return new Snapshot(keys, displays, weights);
+        }
+
+        int size() {
+            return keys.length;
+        }
+
+        List<String> suggest(String prefix, int limit) {
+            int from = lowerBound(prefix);
+            // prefix로 시작하는 문자열은 모두 [prefix, prefix + Character.MAX_VALUE) 범위에 있음
+            int to = lowerBound(prefix + Character.MAX_VALUE);
+            if (from >= to) {
+                return List.of();
+            }
+            // 구간을 최댓값 위치 기준으로 나누어 가며 인기순으로 꺼냄
+            PriorityQueue<int[]> ranges = new PriorityQueue<>((a, b) -> Long.compare(weights[b[2]], weights[a[2]]));
+            ranges.add(new int[]{from, to, argMax(from, to)});
+            List<String> suggestions = new ArrayList<>(limit);
+            while (!ranges.isEmpty() && suggestions.size() < limit) {
+                int[] range = ranges.poll();
+                int best = range[2];
+                suggestions.add(displays[best]);
+                if (range[0] < best) {
+                    ranges.add(new int[]{range[0], best, argMax(range[0], best)});
+                }
+                if (best + 1 < range[1]) {
+                    ranges.add(new int[]{best + 1, range[1], argMax(best + 1, range[1])});
+                }
+            }
+            return suggestions;
+        }
+
+        private int lowerBound(String value) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid].compareTo(value) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        // [from, to) 구간에서 인기도가 가장 높은 위치
+        private int argMax(int from, int to) {
+            int n = keys.length;
+            int best = from;
+            for (int l = from + n, r = to + n; l < r; l >>= 1, r >>= 1) {
+                if ((l & 1) == 1) {
+                    best = better(best, tree[l++]);
+                }
+                if ((r & 1) == 1) {
+                    best = better(best, tree[--r]);
+                }
+            }
+            return best;
+        }
+
+        // 인기도가 같으면 사전순으로 앞선 단어
+        private int better(int a, int b) {
+            if (weights[a] != weights[b]) {
+                return weights[a] > weights[b] ? a : b;
+            }
+            return Math.min(a, b);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.nookbook.domain.book.infrastructure.stats;
+
+import com.nookbook.global.util.TransactionCallbacks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+// 도서별 인기 지표 증감분을 메모리에서 집계한 뒤 book_stats에 주기적으로 한 번에 반영
+// 요청 스레드는 LongAdder 증가만 하므로 같은 도서에 요청이 몰려도 DB 행 잠금 경합이 없음
+@Slf4j
+@Component
+public class BookStatsCounter {
+
+    private static final String UPSERT_SQL = "INSERT INTO book_stats " +
+            "(book_id, read_count, collection_count, timer_start_count, trending_score, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, NOW()) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "read_count = read_count + VALUES(read_count), " +
+            "collection_count = collection_count + VALUES(collection_count), " +
+            "timer_start_count = timer_start_count + VALUES(timer_start_count), " +
+            "trending_score = trending_score + VALUES(trending_score), " +
+            "updated_at = NOW()";
+
+    private static final String USER_READ_BOOKS_SQL =
+            "SELECT ub.book_id, COUNT(*) FROM user_book ub WHERE ub.user_id = ? AND ub.book_status = 'READ' GROUP BY ub.book_id";
+
+    private static final String USER_COLLECTION_BOOKS_SQL =
+            "SELECT cb.book_id, COUNT(*) FROM collection_book cb JOIN collection c ON c.collection_id = cb.collection_id " +
+                    "WHERE c.user_id = ? GROUP BY cb.book_id";
+
+    // 인기 점수 반감기: 7일 전 활동은 지금 활동의 절반만 반영
+    // 활동 시점이 늦을수록 큰 가중치(2^(경과 시간 / 반감기))를 더하므로, 저장된 점수를 다시 계산하지 않아도
+    // 점수 순서가 "시간 감쇠를 적용한 활동량" 순서와 같음 (forward decay)
+    private static final double HALF_LIFE_SECONDS = 7 * 24 * 60 * 60;
+    private static final long DECAY_EPOCH_SECONDS = Instant.parse("2025-01-01T00:00:00Z").getEpochSecond();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Long, Counters> pending = new ConcurrentHashMap<>();
+
+    private final Counter flushFailureCounter;
+
+    public BookStatsCounter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.flushFailureCounter = meterRegistry.counter("book.stats.flush.failures");
+    }
+
+    public void recordReadStatus(Long bookId, boolean read) {
+        TransactionCallbacks.afterCommit(() -> {
+            Counters counters = counters(bookId);
+            counters.readCount.add(read ? 1 : -1);
+            if (read) {
+                counters.trendingScore.add(trendingWeight());
+            }
+        });
+    }
+
+    public void recordCollectionAdded(Long bookId) {
+        TransactionCallbacks.afterCommit(() -> {
+            Counters counters = counters(bookId);
+            counters.collectionCount.increment();
+            counters.trendingScore.add(trendingWeight());
+        });
+    }
+
+    public void recordCollectionRemoved(Long bookId) {
+        TransactionCallbacks.afterCommit(() -> counters(bookId).collectionCount.decrement());
+    }
+
+    public void recordTimerStarted(Long bookId) {
+        TransactionCallbacks.afterCommit(() -> {
+            Counters counters = counters(bookId);
+            counters.timerStartCount.increment();
+            counters.trendingScore.add(trendingWeight());
+        });
+    }
+
+    // 회원 탈퇴로 함께 삭제되는 User_Book(다 읽음) / CollectionBook만큼 감소
+    // 삭제 전에 같은 트랜잭션에서 호출 (타이머 시작 수는 지난 활동 기록이므로 유지)
+    public void recordUserDeleted(Long userId) {
+        Map<Long, Long> readCounts = countByBook(USER_READ_BOOKS_SQL, userId);
+        Map<Long, Long> collectionCounts = countByBook(USER_COLLECTION_BOOKS_SQL, userId);
+        TransactionCallbacks.afterCommit(() -> {
+            readCounts.forEach((bookId, count) -> counters(bookId).readCount.add(-count));
+            collectionCounts.forEach((bookId, count) -> counters(bookId).collectionCount.add(-count));
+        });
+    }
+
+    // 아직 반영되지 않은 증감분 (조회 시 DB 값에 더함)
+    public Delta pendingDelta(Long bookId) {
+        Counters counters = pending.get(bookId);
+        if (counters == null) {
+            return Delta.ZERO;
+        }
+        return new Delta(counters.readCount.sum(), counters.collectionCount.sum(), counters.timerStartCount.sum());
+    }
+
+    @Scheduled(fixedDelay = 10_000)
+    public void flush() {
+        List<Object[]> rows = new ArrayList<>();
+        for (Map.Entry<Long, Counters> entry : pending.entrySet()) {
+            Counters counters = entry.getValue();
+            // sumThenReset은 셀 단위 getAndSet이므로 동시에 들어온 증가분은 이번 또는 다음 반영에 포함됨
+            long readCount = counters.readCount.sumThenReset();
+            long collectionCount = counters.collectionCount.sumThenReset();
+            long timerStartCount = counters.timerStartCount.sumThenReset();
+            double trendingScore = counters.trendingScore.sumThenReset();
+            if (readCount != 0 || collectionCount != 0 || timerStartCount != 0 || trendingScore != 0) {
+                rows.add(new Object[]{entry.getKey(), readCount, collectionCount, timerStartCount, trendingScore});
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            // 한 트랜잭션으로 반영해, 실패하면 모든 행이 롤백되도록 함 (다시 더한 증감분이 중복 반영되지 않음)
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPSERT_SQL, rows));
+            log.debug("도서 인기 지표 반영 - {}권", rows.size());
+        } catch (RuntimeException e) {
+            // 롤백된 증감분은 다음 반영 때 다시 시도
+            flushFailureCounter.increment();
+            log.warn("도서 인기 지표 반영 실패 - {}권, cause: {}", rows.size(), e.getMessage());
+            for (Object[] row : rows) {
+                Counters counters = counters((Long) row[0]);
+                counters.readCount.add((long) row[1]);
+                counters.collectionCount.add((long) row[2]);
+                counters.timerStartCount.add((long) row[3]);
+                counters.trendingScore.add((double) row[4]);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private Map<Long, Long> countByBook(String sql, Long userId) {
+        Map<Long, Long> counts = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            counts.put(rs.getLong(1), rs.getLong(2));
+        }, userId);
+        return counts;
+    }
+
+    private Counters counters(Long bookId) {
+        return pending.computeIfAbsent(bookId, id -> new Counters());
+    }
+
+    private double trendingWeight() {
+        double elapsed = Instant.now().getEpochSecond() - DECAY_EPOCH_SECONDS;
+        return Math.pow(2, elapsed / HALF_LIFE_SECONDS);
+    }
+
+    private static class Counters {
+        private final LongAdder readCount = new LongAdder();
+        private final LongAdder collectionCount = new LongAdder();
+        private final LongAdder timerStartCount = new LongAdder();
+        private final DoubleAdder trendingScore = new DoubleAdder();
+    }
+
+    public record Delta(long readCount, long collectionCount, long timerStartCount) {
+        static final Delta ZERO = new Delta(0, 0, 0);
+    }
+}
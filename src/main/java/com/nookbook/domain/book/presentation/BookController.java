@@ -1,6 +1,9 @@
 package com.nookbook.domain.book.presentation;
 
 import com.nookbook.domain.book.application.BookService;
+import com.nookbook.domain.book.application.BookStatsService;
+import com.nookbook.domain.book.application.SimilarBookService;
+import com.nookbook.domain.book.application.SuggestionService;
 import com.nookbook.domain.book.dto.response.*;
 import com.nookbook.domain.user_book.domain.BookStatus;
 import com.nookbook.global.config.security.token.CurrentUser;
@@ -8,15 +11,19 @@ import com.nookbook.global.config.security.token.UserPrincipal;
 import com.nookbook.global.payload.ErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Tag(name = "Book", description = "Book API")
 @RestController
 @RequiredArgsConstructor
@@ -24,19 +31,37 @@ import org.springframework.web.bind.annotation.*;
 public class BookController {
 
     private final BookService bookService;
+    private final SuggestionService suggestionService;
+    private final SimilarBookService similarBookService;
+    private final BookStatsService bookStatsService;
 
     @Operation(summary = "도서 검색", description = "도서를 제목, 저자, 출판사로 검색합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "검색 성공", content = { @Content(mediaType = "application/json", schema = @Schema(implementation = SearchRes.class) ) } ),
             @ApiResponse(responseCode = "400", description = "검색 실패", content = { @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class) ) } ),
+            @ApiResponse(responseCode = "503", description = "도서 정보 서비스 응답 실패", content = { @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class) ) } ),
     } )
     @GetMapping("/search")
     public ResponseEntity<?> findBooksByKeyword(
             @Parameter(description = "Accesstoken을 입력해주세요.", required = true) @CurrentUser UserPrincipal userPrincipal,
             @Parameter(description = "검색어를 입력해주세요.", required = true) @RequestParam String keyword,
-            @Parameter(description = "검색된 도서 목록을 페이지별로 조회합니다. **Page는 1부터 시작합니다!**", required = true) @RequestParam(defaultValue = "1") int page
+            @Parameter(description = "검색된 도서 목록을 페이지별로 조회합니다. **Page는 1부터 시작합니다!**", required = true) @RequestParam(defaultValue = "1") int page,
+            @Parameter(description = "true이면 검색 결과와 함께 도서별 독서 상태, 컬렉션 저장 여부, 노트 존재 여부(userStatuses)를 응답합니다. 기본값은 false입니다.") @RequestParam(defaultValue = "false") boolean withStatus
             ) {
-        return bookService.searchBooks(userPrincipal, keyword, page);
+        return bookService.searchBooks(userPrincipal, keyword, page, withStatus);
+    }
+
+    @Operation(summary = "검색어 자동완성", description = "입력 중인 검색어로 시작하는 도서 제목 / 인기 검색어를 인기순으로 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공", content = { @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(type = "string"))) } ),
+            @ApiResponse(responseCode = "400", description = "조회 실패", content = { @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class) ) } ),
+    } )
+    @GetMapping("/suggestions")
+    public ResponseEntity<?> findSuggestions(
+            @Parameter(description = "입력 중인 검색어를 입력해주세요.", required = true) @RequestParam String prefix,
+            @Parameter(description = "조회할 추천 검색어 수입니다. 기본 값은 10, 최대 20입니다.") @RequestParam(defaultValue = "10") int size
+    ) {
+        return suggestionService.getSuggestions(prefix, size);
     }
 
     @Operation(summary = "도서 상세 조회", description = "도서를 상세 조회합니다.")
@@ -52,6 +77,44 @@ public class BookController {
         return bookService.getBookDetail(userPrincipal, isbn);
     }
 
+    @Operation(summary = "여러 도서 상세 조회", description = "여러 도서를 한 번에 상세 조회합니다. 최대 50권까지 조회할 수 있으며, 응답은 요청한 isbn 순서를 따릅니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공", content = { @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = BookRes.class))) } ),
+            @ApiResponse(responseCode = "400", description = "조회 실패", content = { @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class) ) } ),
+    } )
+    @GetMapping("/bulk")
+    public ResponseEntity<?> findBookDetails(
+            @Parameter(description = "Accesstoken을 입력해주세요.", required = true) @CurrentUser UserPrincipal userPrincipal,
+            @Parameter(description = "조회하려는 도서들의 isbn을 입력해주세요. (예: isbn=978...&isbn=978...)", required = true) @RequestParam("isbn") List<String> isbns
+    ) {
+        return bookService.getBookDetails(userPrincipal, isbns);
+    }
+
+    @Operation(summary = "누크북 인기 도서 조회", description = "최근 누크북 사용자들이 많이 읽고, 담고, 타이머를 시작한 도서를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공", content = { @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = TrendingBookRes.class))) } ),
+            @ApiResponse(responseCode = "400", description = "조회 실패", content = { @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class) ) } ),
+    } )
+    @GetMapping("/trending")
+    public ResponseEntity<?> findTrendingBooks(
+            @Parameter(description = "조회할 도서 수입니다. 기본 값은 20, 최대 50입니다.") @RequestParam(defaultValue = "20") int size
+    ) {
+        return bookStatsService.getTrendingBooks(size);
+    }
+
+    @Operation(summary = "유사 도서 조회", description = "이 도서를 읽거나 컬렉션에 담은 사용자들이 함께 읽은/담은 도서를 유사도 순으로 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공", content = { @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = SimilarBookRes.class))) } ),
+            @ApiResponse(responseCode = "400", description = "조회 실패", content = { @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class) ) } ),
+    } )
+    @GetMapping("/{bookId}/similar")
+    public ResponseEntity<?> findSimilarBooks(
+            @Parameter(description = "유사 도서를 조회할 도서의 id를 입력해주세요.", required = true) @PathVariable Long bookId,
+            @Parameter(description = "조회할 도서 수입니다. 기본 값은 10, 최대 20입니다.") @RequestParam(defaultValue = "10") int size
+    ) {
+        return similarBookService.getSimilarBooks(bookId, size);
+    }
+
     @Operation(summary = "도서 상태 변경", description = "도서의 읽음 상태를 변경합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "변경 성공", content = { @Content(mediaType = "application/json", schema = @Schema(implementation = BookStatus.class) ) } ),
@@ -68,6 +131,7 @@ public class BookController {
     @Operation(summary = "베스트셀러 조회", description = "베스트셀러를 카테고리별로 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "검색 성공", content = { @Content(mediaType = "application/json", schema = @Schema(implementation = BestSellerRes.class) ) } ),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
             @ApiResponse(responseCode = "400", description = "검색 실패", content = { @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class) ) } ),
     } )
     @GetMapping("/best-sellers")
@@ -75,8 +139,14 @@ public class BookController {
             @Parameter(description = "Accesstoken을 입력해주세요.", required = true) @CurrentUser UserPrincipal userPrincipal,
             @Parameter(description = "베스트셀러의 카테고리를 입력해주세요. 종합(0), 소설(1), 경제/경영(170), 자기계발(336), 시(50940), 에세이(55889), 인문/교양(656), 취미/실용(55890), 매거진(2913), 기본값은 종합(0)입니다.", required = true) @RequestParam(defaultValue = "0") int category,
             @Parameter(description = "page의 size입니다. 기본 값은 20입니다.", required = true) @RequestParam(defaultValue = "20") int size,
-            @Parameter(description = "베스트셀러를 페이지별로 조회합니다. **Page는 1부터 시작합니다!**", required = true) @RequestParam(defaultValue = "1") int page
+            @Parameter(description = "베스트셀러를 페이지별로 조회합니다. **Page는 1부터 시작합니다!**", required = true) @RequestParam(defaultValue = "1") int page,
+            @Parameter(description = "이전 응답의 ETag입니다. 변경이 없으면 304를 반환합니다.") @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @Parameter(description = "true이면 베스트셀러 목록과 함께 도서별 독서 상태, 컬렉션 저장 여부, 노트 존재 여부(userStatuses)를 응답합니다. 기본값은 false입니다.") @RequestParam(defaultValue = "false") boolean withStatus
     ) {
-        return bookService.getBestSellerByCategory(page, category, size);
+        if (withStatus) {
+            return bookService.getBestSellerByCategoryWithStatus(userPrincipal, page, category, size);
+        }
+        return bookService.getBestSellerByCategory(page, category, size, ifNoneMatch, acceptEncoding);
     }
 }
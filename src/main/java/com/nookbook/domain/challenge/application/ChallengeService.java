@@ -11,8 +11,9 @@ import com.nookbook.domain.challenge.domain.repository.ParticipantRepository;
 import com.nookbook.domain.challenge.dto.request.ChallengeCreateReq;
 import com.nookbook.domain.challenge.dto.response.*;
 import com.nookbook.domain.challenge.exception.*;
-import com.nookbook.domain.timer.domain.Timer;
 import com.nookbook.domain.timer.domain.repository.TimerRepository;
+import com.nookbook.domain.timer.domain.repository.TimerRow;
+import com.nookbook.domain.timer.infrastructure.ReadingSessionRegistry;
 import com.nookbook.domain.user.application.FriendService;
 import com.nookbook.domain.user.domain.Friend;
 import com.nookbook.infrastructure.s3.S3Uploader;
@@ -22,6 +23,7 @@ import com.nookbook.domain.user.domain.repository.UserRepository;
 import com.nookbook.domain.user.exception.UserNotFoundException;
 import com.nookbook.global.config.security.token.UserPrincipal;
 import com.nookbook.global.payload.ApiResponse;
+import com.nookbook.global.util.TimeFormatter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -34,6 +36,7 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Service
@@ -53,6 +56,7 @@ public class ChallengeService {
     private final FriendService friendService;
     private final TimerRepository timerRepository;
     private final AlarmService alarmService;
+    private final ReadingSessionRegistry readingSessionRegistry;
 
     // 챌린지 생성
     @Transactional
@@ -252,31 +256,52 @@ public class ChallengeService {
     // UserBook: 사용자가 오늘 기록한 책
     private ParticipantStatusListRes getParticipantStatus(Participant participant, boolean isMe, LocalDateTime lastWakeUpTime) {
 
-        // 해당 참가자의 오늘 타이머 목록 조회
-        List<Timer> todayTimers = timerRepository.findByUserAndCreatedAt(participant.getUser(), LocalDate.now());
-        log.info("todayTimers: {}", todayTimers);
+        // 독서 세션 목록에 오늘 세션이 있으면 타이머 목록을 조회하지 않음 (독서 시간 합계만 조회)
+        Optional<ReadingSessionRegistry.ReadingSession> session = readingSessionRegistry.findLatest(participant.getUser().getUserId(), LocalDate.now());
+        if (session.isPresent()) {
+            LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
+            Long totalReadTime = timerRepository.sumReadTimeByUserIdAndCreatedAtBetween(participant.getUser().getUserId(), startOfDay, startOfDay.plusDays(1));
+            return ParticipantStatusListRes.builder()
+                    .isMe(isMe) // 해당 참여자가 사용자 본인인지 여부
+                    .participantId(participant.getParticipantId()) // 참가자 ID
+                    .userId(participant.getUser().getUserId()) // 참가자 User ID
+                    .nickname(participant.getUser().getNickname()) // 참가자 닉네임
+                    .readingBookTitle(session.get().bookTitle()) // 읽고 있는 책 제목
+                    .readingBookImage(session.get().bookImage()) // 읽고 있는 책 이미지
+                    .participantImage(participant.getUser().getImageUrl()) // 참가자 이미지
+                    .isReading(session.get().isReading()) // 실시간 독서 진행 여부
+                    .dailyReadingTime(convertToHHMMSS(totalReadTime == null ? 0 : totalReadTime)) // 오늘 독서 시간 합
+                    .lastWakeUpTime(lastWakeUpTime) // 가장 최근의 깨우기 시간
+                    .build();
+        }
+
+        // 해당 참가자의 오늘 타이머 목록 조회 ([오늘 0시, 내일 0시) 범위, (user_id, created_at) 인덱스 사용)
+        LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
+        List<TimerRow> todayTimers = timerRepository.findRowsByUserIdAndCreatedAtBetween(participant.getUser().getUserId(), startOfDay, startOfDay.plusDays(1));
         // 오늘 타이머 기록이 없는 경우
         if(todayTimers.isEmpty()) {
             log.info("오늘 기준의 타이머 기록이 존재하지 않습니다.");
             return EmptyTodayTimer(participant, isMe, lastWakeUpTime);
         }
 
-        // 가장 최근의 타이머 조회
-        Timer timer = timerRepository.findRecentTimer(todayTimers);
-        // 가장 최근의 타이머의 UserBook 조회
-        Book recentBook = timer.getUserBook().getBook();
+        // 가장 최근의 타이머 (시작 순으로 정렬되어 있음)
+        TimerRow recentTimer = todayTimers.get(todayTimers.size() - 1);
         // 읽고 있는지 여부, 읽은 시간
-        boolean isReading = timer.isReading();
+        boolean isReading = recentTimer.isReading();
         // 오늘 타이머 목록의 시간 합
-        String readTime = convertStringToHHMMSS(timerRepository.sumTotalReadTime(todayTimers));
+        long totalReadTime = 0;
+        for (TimerRow timer : todayTimers) {
+            totalReadTime += timer.getReadTime();
+        }
+        String readTime = convertToHHMMSS(totalReadTime);
 
         return ParticipantStatusListRes.builder()
                 .isMe(isMe) // 해당 참여자가 사용자 본인인지 여부
                 .participantId(participant.getParticipantId()) // 참가자 ID
                 .userId(participant.getUser().getUserId()) // 참가자 User ID
                 .nickname(participant.getUser().getNickname()) // 참가자 닉네임
-                .readingBookTitle(recentBook.getTitle()) // 읽고 있는 책 제목
-                .readingBookImage(recentBook.getImage()) // 읽고 있는 책 이미지
+                .readingBookTitle(recentTimer.getTitle()) // 읽고 있는 책 제목
+                .readingBookImage(recentTimer.getImage()) // 읽고 있는 책 이미지
                 .participantImage(participant.getUser().getImageUrl()) // 참가자 이미지
                 .isReading(isReading) // 실시간 독서 진행 여부
                 .dailyReadingTime(readTime) // 가장 최근의 독서 시간
@@ -668,17 +693,8 @@ public class ChallengeService {
                 .orElseThrow(BookNotFoundException::new);
     }
 
-    private String convertStringToHHMMSS(String time) {
-        // "120" -> "00:02:00"
-        if (time == null) {
-            return "00:00:00";
-        }
-        long totalSeconds = Long.parseLong(time);
-        long hours = totalSeconds / 3600;
-        long minutes = (totalSeconds % 3600) / 60;
-        long seconds = totalSeconds % 60;
-        // "HH:mm:ss" 형식으로 반환
-        return String.format("%02d:%02d:%02d", hours, minutes, seconds);
-
+    private String convertToHHMMSS(long time) {
+        // 120 -> "00:02:00"
+        return TimeFormatter.formatReadTime(time);
     }
 }
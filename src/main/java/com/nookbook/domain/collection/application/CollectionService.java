@@ -2,7 +2,9 @@ package com.nookbook.domain.collection.application;
 
 import com.nookbook.domain.book.domain.Book;
 import com.nookbook.domain.book.domain.repository.BookRepository;
+import com.nookbook.domain.book.domain.repository.BookSummary;
 import com.nookbook.domain.book.exception.BookNotFoundException;
+import com.nookbook.domain.book.infrastructure.stats.BookStatsCounter;
 import com.nookbook.domain.collection.domain.Collection;
 import com.nookbook.domain.collection.domain.CollectionBook;
 import com.nookbook.domain.collection.domain.CollectionStatus;
@@ -41,6 +43,7 @@ public class CollectionService {
     private final UserService userService;
     private final BookRepository bookRepository;
     private final CollectionBookRepository collectionBookRepository;
+    private final BookStatsCounter bookStatsCounter;
 
 
     // 컬렉션 생성
@@ -152,10 +155,8 @@ public class CollectionService {
 
     // 컬렉션 내의 도서 목록 조회 매소드 분리
     public CollectionBooksListRes getCollectionBooksListDetailRes(Collection collection) {
-        // CollectionBook 엔티티에서 Book 객체 추출
-        List<Book> books = collection.getCollectionBooks().stream()
-                .map(CollectionBook::getBook)
-                .toList();
+        // 목록에 필요한 도서 컬럼만 한 번에 조회 (도서별 추가 조회 / TEXT 컬럼 로딩 없음)
+        List<BookSummary> books = collectionBookRepository.findBookSummariesByCollection(collection);
 
         // CollectionBookListRes, CollectionBookListDetailRes
         List<CollectionBooksListDetailRes> bookResponses = books.stream()
@@ -229,6 +230,7 @@ public class CollectionService {
                 .book(book)
                 .build();
         collectionBookRepository.save(collectionBook);
+        bookStatsCounter.recordCollectionAdded(book.getBookId());
     }
 
 
@@ -251,6 +253,7 @@ public class CollectionService {
                     .orElseThrow(() -> new RuntimeException("컬렉션 도서를 찾을 수 없습니다."));
 
             collectionBookRepository.delete(collectionBook);
+            bookStatsCounter.recordCollectionRemoved(bookId);
         }
     }
 
@@ -368,6 +371,10 @@ public class CollectionService {
         Collection collection = existCollection(collectionId);
         isCollectionOwner(user, collection);
 
+        // 함께 삭제되는 컬렉션 도서 반영
+        for (CollectionBook collectionBook : collection.getCollectionBooks()) {
+            bookStatsCounter.recordCollectionRemoved(collectionBook.getBook().getBookId());
+        }
         collectionRepository.delete(collection);
         // 컬렉션 삭제 시 컬렉션들의 orderIndex 재정렬
         Collection.reorderCollectionOrderIdx(collectionRepository.findAllByUser(user));
@@ -409,6 +416,7 @@ public class CollectionService {
 
         // 4. 원본 컬렉션에서 삭제 후 대상 컬렉션에 추가
         collectionBookRepository.delete(fromEntry);
+        bookStatsCounter.recordCollectionRemoved(book.getBookId());
         addBookToCollection(to, book);
     }
 
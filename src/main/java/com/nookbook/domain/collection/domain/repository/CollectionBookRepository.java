@@ -1,6 +1,7 @@
 package com.nookbook.domain.collection.domain.repository;
 
 import com.nookbook.domain.book.domain.Book;
+import com.nookbook.domain.book.domain.repository.BookSummary;
 import com.nookbook.domain.collection.domain.Collection;
 import com.nookbook.domain.collection.domain.CollectionBook;
 import com.nookbook.domain.user.domain.User;
@@ -24,4 +25,16 @@ public interface CollectionBookRepository extends JpaRepository<CollectionBook,
 
     List<CollectionBook> findByCollectionUserAndBook(User user, Book book);
 
+    @Query("SELECT cb.book.bookId AS bookId, cb.collection.collectionId AS collectionId " +
+            "FROM CollectionBook cb WHERE cb.collection.user = :user AND cb.book IN :books")
+    List<CollectionMembership> findMembershipsByUserAndBookIn(User user, List<Book> books);
+
+    @Query("SELECT b.isbn AS isbn, cb.collection.collectionId AS collectionId " +
+            "FROM CollectionBook cb JOIN cb.book b WHERE cb.collection.user = :user AND b.isbn IN :isbns")
+    List<IsbnCollectionMembership> findMembershipsByUserAndIsbnIn(User user, List<String> isbns);
+
+    @Query("SELECT b.bookId AS bookId, b.isbn AS isbn, b.title AS title, b.author AS author, b.publisher AS publisher, b.image AS image " +
+            "FROM CollectionBook cb JOIN cb.book b WHERE cb.collection = :collection ORDER BY cb.collectionBookId")
+    List<BookSummary> findBookSummariesByCollection(Collection collection);
+
 }
@@ -0,0 +1,9 @@
+package com.nookbook.domain.collection.domain.repository;
+
+// (도서, 도서가 담긴 컬렉션) 프로젝션
+public interface CollectionMembership {
+
+    Long getBookId();
+
+    Long getCollectionId();
+}
@@ -0,0 +1,9 @@
+package com.nookbook.domain.collection.domain.repository;
+
+// (도서 ISBN, 도서가 담긴 컬렉션) 프로젝션
+public interface IsbnCollectionMembership {
+
+    String getIsbn();
+
+    Long getCollectionId();
+}
@@ -1,9 +1,12 @@
 package com.nookbook.domain.keyword.domain.repository;
 
+import com.nookbook.domain.book.domain.repository.TermFrequency;
 import com.nookbook.domain.keyword.domain.Keyword;
 import com.nookbook.domain.user.domain.User;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -17,4 +20,10 @@ public interface KeywordRepository extends JpaRepository<Keyword, Long> {
     Keyword findByUserAndContent(User user, String keyword);
 
     Keyword findByUserAndKeywordId(User user, Long keywordId);
+
+    // 검색어별 검색한 사용자 수 (검색어 추천 색인용)
+    // 한 사람만 검색한 검색어가 다른 사용자에게 노출되지 않도록 minUsers명 이상이 검색한 검색어만 조회
+    @Query("SELECT k.content AS term, COUNT(DISTINCT k.user) AS frequency FROM Keyword k " +
+            "GROUP BY k.content HAVING COUNT(DISTINCT k.user) >= :minUsers")
+    List<TermFrequency> countUsersByContent(@Param("minUsers") long minUsers);
 }
@@ -2,6 +2,7 @@ package com.nookbook.domain.note.application;
 
 import com.nookbook.domain.book.domain.Book;
 import com.nookbook.domain.book.domain.repository.BookRepository;
+import com.nookbook.domain.book.domain.repository.BookSummary;
 import com.nookbook.domain.note.domain.Note;
 import com.nookbook.domain.note.domain.repository.NoteRepository;
 import com.nookbook.domain.note.dto.request.CreateNoteReq;
@@ -165,23 +166,21 @@ public class NoteService {
         } else {
             userBooks = userBookRepository.findByUserAndBookTitleLike(targetUser, keyword);
         }
-        List<Note> notes;
+        // 노트 엔티티 대신 목록에 필요한 도서 컬럼만 조회
+        List<BookSummary> books;
         if (userPrincipal.getId() == userId) {
-            notes = noteRepository.findByUserBookInOrderByCreatedAtDesc(userBooks);
+            books = noteRepository.findBookSummariesByUserBookIn(userBooks);
         } else {
-            notes = noteRepository.findByUserBookInAndLockedOrderByCreatedAtDesc(userBooks, false);
+            books = noteRepository.findBookSummariesByUserBookInAndLocked(userBooks, false);
         }
-        List<OtherUserNoteListRes> noteListRes = notes.stream()
-                .map(note -> {
-                    Book book = note.getUserBook().getBook();
-                    return OtherUserNoteListRes.builder()
-                            .bookId(book.getBookId())
-                            .cover(book.getImage())
-                            .title(book.getTitle())
-                            .author(book.getAuthor())
-                            .publisher(book.getPublisher())
-                            .build();
-                })
+        List<OtherUserNoteListRes> noteListRes = books.stream()
+                .map(book -> OtherUserNoteListRes.builder()
+                        .bookId(book.getBookId())
+                        .cover(book.getImage())
+                        .title(book.getTitle())
+                        .author(book.getAuthor())
+                        .publisher(book.getPublisher())
+                        .build())
                 .collect(Collectors.toMap(
                         OtherUserNoteListRes::getBookId,
                         res -> res,
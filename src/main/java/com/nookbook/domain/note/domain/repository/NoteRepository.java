@@ -1,8 +1,10 @@
 package com.nookbook.domain.note.domain.repository;
 
+import com.nookbook.domain.book.domain.repository.BookSummary;
 import com.nookbook.domain.note.domain.Note;
 import com.nookbook.domain.user_book.domain.UserBook;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,6 +15,10 @@ public interface NoteRepository extends JpaRepository<Note, Long> {
 
     boolean existsByUserBook(UserBook userBook);
 
+    // 기록이 하나 이상 있는 user_book id
+    @Query("SELECT DISTINCT n.userBook.userBookId FROM Note n WHERE n.userBook IN :userBooks")
+    List<Long> findUserBookIdsWithNotes(List<UserBook> userBooks);
+
     List<Note> findByUserBookOrderByCreatedAtDesc(UserBook userBook);
 
     List<Note> findByUserBookInOrderByCreatedAtDesc(List<UserBook> userBooks);
@@ -20,4 +26,13 @@ public interface NoteRepository extends JpaRepository<Note, Long> {
     List<Note> findByUserBookInAndLockedOrderByCreatedAtDesc(List<UserBook> userBooks, boolean locked);
 
     List<Note> findByUserBookAndLockedOrderByCreatedAtDesc(UserBook userBook, boolean locked);
+
+    // 기록이 있는 도서 목록 (최근 기록 순, 도서 중복 포함)
+    @Query("SELECT b.bookId AS bookId, b.isbn AS isbn, b.title AS title, b.author AS author, b.publisher AS publisher, b.image AS image " +
+            "FROM Note n JOIN n.userBook ub JOIN ub.book b WHERE ub IN :userBooks ORDER BY n.createdAt DESC")
+    List<BookSummary> findBookSummariesByUserBookIn(List<UserBook> userBooks);
+
+    @Query("SELECT b.bookId AS bookId, b.isbn AS isbn, b.title AS title, b.author AS author, b.publisher AS publisher, b.image AS image " +
+            "FROM Note n JOIN n.userBook ub JOIN ub.book b WHERE ub IN :userBooks AND n.locked = :locked ORDER BY n.createdAt DESC")
+    List<BookSummary> findBookSummariesByUserBookInAndLocked(List<UserBook> userBooks, boolean locked);
 }
@@ -2,12 +2,17 @@ package com.nookbook.domain.timer.application;
 
 import com.nookbook.domain.book.domain.Book;
 import com.nookbook.domain.book.domain.repository.BookRepository;
+import com.nookbook.domain.book.infrastructure.stats.BookStatsCounter;
 import com.nookbook.domain.timer.domain.Timer;
+import com.nookbook.domain.timer.domain.repository.DailyReadingRepository;
 import com.nookbook.domain.timer.domain.repository.TimerRepository;
 import com.nookbook.domain.timer.dto.request.UpdateTimerReq;
 import com.nookbook.domain.timer.dto.response.StartTimerIdRes;
 import com.nookbook.domain.timer.dto.response.TimerRecordRes;
 import com.nookbook.domain.timer.dto.response.TimerRes;
+import com.nookbook.domain.timer.infrastructure.ReadingSessionRegistry;
+import com.nookbook.domain.timer.infrastructure.ReadingYearStore;
+import com.nookbook.domain.timer.infrastructure.TimerRetention;
 import com.nookbook.domain.user.domain.User;
 import com.nookbook.domain.user.domain.repository.UserRepository;
 import com.nookbook.domain.user_book.domain.BookStatus;
@@ -16,13 +21,13 @@ import com.nookbook.domain.user_book.domain.repository.UserBookRepository;
 import com.nookbook.global.DefaultAssert;
 import com.nookbook.global.config.security.token.UserPrincipal;
 import com.nookbook.global.payload.ApiResponse;
+import com.nookbook.global.util.TimeFormatter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigInteger;
-import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,6 +40,11 @@ public class TimerService {
     private final UserBookRepository userBookRepository;
     private final BookRepository bookRepository;
     private final TimerRepository timerRepository;
+    private final DailyReadingRepository dailyReadingRepository;
+    private final BookStatsCounter bookStatsCounter;
+    private final ReadingSessionRegistry readingSessionRegistry;
+    private final TimerRetention timerRetention;
+    private final ReadingYearStore readingYearStore;
 
     // 타이머 시작
     @Transactional
@@ -45,13 +55,18 @@ public class TimerService {
         //    deleteOldestTimer(userBook);
         //}
         UserBook userBook = getOrCreateUserBook(user, book);
+        // 진행 중인 타이머 종료는 항상 DB에서 (독서 세션 목록은 인스턴스별 메모리이므로 조회에만 사용)
         timerRepository.turnOffReadingTimers(userBook);
         Timer timer = Timer.builder()
                 .userBook(userBook)
-                .readTime(BigInteger.valueOf(0))
+                .readTime(0)
                 .isReading(true)
                 .build();
         timerRepository.save(timer);
+        bookStatsCounter.recordTimerStarted(book.getBookId());
+        readingSessionRegistry.start(new ReadingSessionRegistry.ReadingSession(
+                timer.getTimerId(), user.getUserId(), userBook.getUserBookId(), book.getBookId(),
+                book.getTitle(), book.getImage(), timer.getCreatedAt() != null ? timer.getCreatedAt() : LocalDateTime.now(), null));
         return ResponseEntity.ok(ApiResponse.builder()
                 .check(true)
                 .information(StartTimerIdRes.builder()
@@ -78,14 +93,19 @@ public class TimerService {
         User user = validUserById(userPrincipal.getId());
         Timer timer = validTimerById(timerId);
         UserBook userBook = timer.getUserBook();
-        plusTotalReadTime(userBook, updateTimerReq.getTime());
-        long timerCount = timerRepository.countByUserBook(userBook);
-        if (timerCount >= 10) {
-            deleteOldestTimer(userBook, timerCount);
-        }
+        DefaultAssert.isTrue(updateTimerReq.getTime() != null && updateTimerReq.getTime() >= 0, "독서 시간이 올바르지 않습니다.");
+        long readTime = updateTimerReq.getTime();
+        plusTotalReadTime(userBook, readTime);
         DefaultAssert.isTrue(timer.isReading(), "타이머를 시작하지 않았습니다.");
-        timer.updateReadTime(updateTimerReq.getTime());
+        timer.updateReadTime(readTime);
         timer.updateIsReading(false);
+        // 타이머 시작일의 독서 기록 집계에 더함
+        dailyReadingRepository.accumulate(userBook.getUser().getUserId(), timer.getCreatedAt().toLocalDate(),
+                readTime, timer.getCreatedAt(), LocalDateTime.now(), String.valueOf(userBook.getBook().getBookId()));
+        readingYearStore.record(userBook.getUser().getUserId(), timer.getCreatedAt().toLocalDate());
+        readingSessionRegistry.end(userBook.getUser().getUserId(), timer.getTimerId());
+        // 보관 개수를 넘은 오래된 타이머는 커밋 후 백그라운드에서 삭제
+        timerRetention.trimAfterCommit(userBook.getUserBookId());
         ApiResponse apiResponse = ApiResponse.builder()
                 .check(true)
                 .information("타이머가 저장되었습니다.")
@@ -93,28 +113,13 @@ public class TimerService {
         return ResponseEntity.ok(apiResponse);
     }
 
-    private void deleteOldestTimer(UserBook userBook, long timerCount) {
-        while (timerCount > 9) {
-            Timer oldestTimer = timerRepository.findTop1ByUserBookOrderByCreatedAtAsc(userBook);
-            timerRepository.delete(oldestTimer);
-            timerCount--;
-        }
-    }
-
-    public void plusTotalReadTime(UserBook userBook, BigInteger additionalTime) {
+    public void plusTotalReadTime(UserBook userBook, long additionalTime) {
         userBook.addTotalReadTime(additionalTime);
     }
 
-    public String convertBigIntegerToString(BigInteger time) {
-         if (time == null) {
-            return null;
-        }
-        long totalSeconds = time.longValue();
-        long hours = totalSeconds / 3600;
-        long minutes = (totalSeconds % 3600) / 60;
-        long seconds = totalSeconds % 60;
-        // "HH:mm:ss" 형식으로 반환
-        return String.format("%02d:%02d:%02d", hours, minutes, seconds);
+    // "HH:mm:ss" 형식으로 반환
+    public String convertReadTimeToString(long time) {
+        return TimeFormatter.formatReadTime(time);
     }
 
     // 타이머 조회
@@ -140,16 +145,19 @@ public class TimerService {
                         .timerId(timer.getTimerId())
                         .date(timer.getCreatedAt().toLocalDate())
                         .time(timer.getCreatedAt().toLocalTime())
-                        .readTime(convertBigIntegerToString(timer.getReadTime()))
+                        .readTime(convertReadTimeToString(timer.getReadTime()))
                         .build())
                 .toList();
-        Optional<Timer> timer = timerRepository.findByUserBookAndIsReading(userBook, true);
-        boolean isReading = timer.isPresent();
-        Long timerId = isReading ? timer.get().getTimerId() : null;
+        // 진행 중인 타이머는 독서 세션 목록에서 확인 (복구 전이면 DB 조회)
+        Optional<Long> readingTimerId = readingSessionRegistry.isReady()
+                ? readingSessionRegistry.findActive(user.getUserId(), userBook.getUserBookId()).map(ReadingSessionRegistry.ReadingSession::timerId)
+                : timerRepository.findByUserBookAndIsReading(userBook, true).map(Timer::getTimerId);
+        boolean isReading = readingTimerId.isPresent();
+        Long timerId = readingTimerId.orElse(null);
         TimerRes timerRes = TimerRes.builder()
                 .reading(isReading)
                 .timerId(timerId)
-                .totalReadTime(convertBigIntegerToString(userBook.getTotalReadTime()))
+                .totalReadTime(convertReadTimeToString(userBook.getTotalReadTime()))
                 .recordResList(timerRecordRes)
                 .build();
         ApiResponse apiResponse = ApiResponse.builder()
@@ -178,20 +186,4 @@ public class TimerService {
         DefaultAssert.isTrue(userOptional.isPresent(), "유효한 사용자가 아닙니다.");
         return userOptional.get();
     }
-
-    public List<Timer> getTimerListByDate(User user, LocalDate localDate) {
-        return timerRepository.findByUserAndCreatedAt(user, localDate);
-    }
-
-    public String sumTotalReadTime(List<Timer> timerList) {
-        if (timerList == null || timerList.isEmpty()) {
-            return "00:00:00"; // 기본값 반환
-        }
-
-        BigInteger totalTime = timerList.stream()
-                .map(timer -> Optional.ofNullable(timer.getReadTime()).orElse(BigInteger.ZERO)) // null 값 방지
-                .reduce(BigInteger.ZERO, BigInteger::add);
-
-        return convertBigIntegerToString(totalTime);
-    }
 }
@@ -0,0 +1,90 @@
+package com.nookbook.domain.timer.batch;
+
+import com.nookbook.domain.timer.domain.repository.DailyReadingRepository;
+import com.nookbook.domain.timer.domain.repository.TimerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+// Timer 기록으로 daily_reading 집계를 채우는 Job
+// [from, to) 구간을 WINDOW_DAYS 단위로 나누어 구간마다 트랜잭션을 커밋하고, 다음 구간 시작일을 ExecutionContext에 저장하여 실패 시 이어서 실행
+// from/to 파라미터가 없으면 첫 실행 때 가장 오래된 Timer 날짜 ~ 내일로 정해 ExecutionContext에 저장 (재실행해도 같은 구간)
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class DailyReadingBackfillBatchConfig {
+
+    private static final String NEXT_DATE_KEY = "nextDate";
+    private static final String END_DATE_KEY = "endDate";
+    private static final int WINDOW_DAYS = 31;
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final DailyReadingRepository dailyReadingRepository;
+    private final TimerRepository timerRepository;
+
+    @Bean
+    public Job dailyReadingBackfillJob() {
+        return new JobBuilder("dailyReadingBackfillJob", jobRepository)
+                .start(dailyReadingBackfillStep())
+                .build();
+    }
+
+    @Bean
+    public Step dailyReadingBackfillStep() {
+        return new StepBuilder("dailyReadingBackfillStep", jobRepository)
+                .tasklet(dailyReadingBackfillTasklet(null, null, null), transactionManager)
+                .build();
+    }
+
+    // overwrite=true이면 이미 있는 날짜도 Timer로 다시 계산하여 반영 (기본은 없는 날짜만 채움)
+    @Bean
+    @StepScope
+    public Tasklet dailyReadingBackfillTasklet(@Value("#{jobParameters['from']}") String from,
+                                               @Value("#{jobParameters['to']}") String to,
+                                               @Value("#{jobParameters['overwrite']}") String overwrite) {
+        boolean replace = Boolean.parseBoolean(overwrite);
+        return (contribution, chunkContext) -> {
+            ExecutionContext context = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+            if (!context.containsKey(NEXT_DATE_KEY)) {
+                Optional<LocalDate> start = from != null
+                        ? Optional.of(LocalDate.parse(from))
+                        : timerRepository.findEarliestCreatedAt().map(LocalDateTime::toLocalDate);
+                if (start.isEmpty()) {
+                    return RepeatStatus.FINISHED;
+                }
+                context.putString(NEXT_DATE_KEY, start.get().toString());
+                context.putString(END_DATE_KEY, to != null ? to : LocalDate.now().plusDays(1).toString());
+            }
+            LocalDate windowStart = LocalDate.parse(context.getString(NEXT_DATE_KEY));
+            LocalDate end = LocalDate.parse(context.getString(END_DATE_KEY));
+            if (!windowStart.isBefore(end)) {
+                return RepeatStatus.FINISHED;
+            }
+            LocalDate windowEnd = windowStart.plusDays(WINDOW_DAYS).isBefore(end) ? windowStart.plusDays(WINDOW_DAYS) : end;
+            int inserted = replace
+                    ? dailyReadingRepository.recompute(windowStart.atStartOfDay(), windowEnd.atStartOfDay())
+                    : dailyReadingRepository.backfill(windowStart.atStartOfDay(), windowEnd.atStartOfDay());
+            contribution.incrementWriteCount(inserted);
+            context.putString(NEXT_DATE_KEY, windowEnd.toString());
+            log.info("독서 기록 집계 백필 - [{}, {}) {}건", windowStart, windowEnd, inserted);
+            return windowEnd.isBefore(end) ? RepeatStatus.CONTINUABLE : RepeatStatus.FINISHED;
+        };
+    }
+}
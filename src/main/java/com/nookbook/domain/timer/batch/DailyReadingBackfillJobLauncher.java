@@ -0,0 +1,72 @@
+package com.nookbook.domain.timer.batch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyReadingBackfillJobLauncher {
+
+    private final JobLauncher jobLauncher;
+    private final Job dailyReadingBackfillJob;
+    private final ReadingYearRebuildJobLauncher readingYearRebuildJobLauncher;
+
+    // daily_reading 도입 직후 한 번만 기존 Timer 기록으로 채움 (이후에는 타이머 종료 시 더해짐)
+    // 고정 파라미터로 실행하므로 완료 여부가 Job 메타데이터에 남고, 실패했으면 다음 기동 때 이어서 실행
+    // 백필 전에 타이머 종료로 먼저 생긴 행이 있을 수 있으므로 이미 있는 날짜도 다시 계산하는 방식(overwrite)으로 실행
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnce() {
+        try {
+            boolean completed = launch(new JobParametersBuilder()
+                    .addString("run", "initial")
+                    .addString("overwrite", "true")
+                    .toJobParameters());
+            // 연간 독서 일자는 daily_reading으로 만들므로 백필이 끝난 뒤에만 실행
+            if (completed) {
+                readingYearRebuildJobLauncher.rebuildOnce();
+            }
+        } catch (RuntimeException e) {
+            log.error("독서 기록 집계 초기화 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    // [from, to) 구간 집계 복구
+    // 같은 파라미터로 다시 실행하면 실패했던 구간부터 이어서 실행하고, 이미 완료된 경우 실행하지 않음
+    public void launch(LocalDate from, LocalDate to, boolean overwrite) {
+        launch(new JobParametersBuilder()
+                .addString("from", from.toString())
+                .addString("to", to.toString())
+                .addString("overwrite", String.valueOf(overwrite))
+                .toJobParameters());
+    }
+
+    // 완료되었거나 이미 완료된 Job이면 true
+    private boolean launch(JobParameters jobParameters) {
+        try {
+            JobExecution execution = jobLauncher.run(dailyReadingBackfillJob, jobParameters);
+            log.info("독서 기록 집계 백필 Job 실행 완료 - {} status: {}", jobParameters, execution.getStatus());
+            return execution.getStatus() == BatchStatus.COMPLETED;
+        } catch (JobInstanceAlreadyCompleteException e) {
+            log.info("독서 기록 집계 백필 Job 이미 완료됨 - {}", jobParameters);
+            return true;
+        } catch (Exception e) {
+            log.error("독서 기록 집계 백필 Job 실행 실패", e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.nookbook.domain.timer.batch;
+
+import com.nookbook.domain.timer.infrastructure.ReadingYearStore;
+import com.nookbook.domain.timer.infrastructure.ReadingYearStore.UserDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 자정 배치에서 진행 중인 타이머를 사용자 구간 안의 timer_id 구간 단위로 한 번에 종료
+// 구간: user_id > fromUserId AND user_id <= toUserId, timer_id > fromId AND timer_id <= toId, cutoff(배치 시작 시각) 이전에 시작한 타이머만 대상
+// 사용자 구간이 겹치지 않으면 구간끼리 같은 user_book / daily_reading / reading_year 행을 갱신하지 않음
+// (Timer.userId는 기존 행이 아직 채워지지 않았을 수 있으므로 user_book의 user_id로 구분)
+// Timer 엔티티를 읽지 않고, 같은 트랜잭션 안에서 User_Book 누적 시간 / daily_reading 집계 / Timer 종료를 UPDATE 세 번으로 처리
+// 이후 종료된 (사용자, 날짜)의 연간 독서 일자(reading_year)를 갱신
+@Component
+@RequiredArgsConstructor
+public class OpenTimerCloser {
+
+    private static final String OPEN_TIMER_RANGE = "t.is_reading = true AND t.created_at < ? " +
+            "AND ub.user_id > ? AND ub.user_id <= ? AND t.timer_id > ? AND t.timer_id <= ?";
+
+    private static final String OPEN_TIMER_JOIN = "timer t JOIN user_book ub ON ub.user_book_id = t.user_book_id";
+
+    private static final String USER_ID_RANGE_SQL =
+            "SELECT MIN(ub.user_id), MAX(ub.user_id) FROM " + OPEN_TIMER_JOIN + " WHERE t.is_reading = true AND t.created_at < ?";
+
+    // keyset: 마지막으로 처리한 id 이후 chunkSize개의 마지막 id
+    private static final String CHUNK_UPPER_ID_SQL =
+            "SELECT MAX(x.timer_id) FROM (SELECT t.timer_id FROM " + OPEN_TIMER_JOIN + " WHERE " + OPEN_TIMER_RANGE +
+                    " ORDER BY t.timer_id LIMIT ?) x";
+
+    private static final String ADD_TOTAL_READ_TIME_SQL =
+            "UPDATE user_book ub JOIN (SELECT t.user_book_id, SUM(TIMESTAMPDIFF(SECOND, t.created_at, ?)) AS elapsed " +
+                    "FROM " + OPEN_TIMER_JOIN + " WHERE " + OPEN_TIMER_RANGE + " GROUP BY t.user_book_id) e ON e.user_book_id = ub.user_book_id " +
+                    "SET ub.total_read_time = COALESCE(ub.total_read_time, 0) + e.elapsed";
+
+    // (사용자, 날짜, 도서) 단위 행을 차례로 upsert 하므로 book_ids 중복 제거 규칙은 DailyReadingRepository.accumulate와 같음
+    private static final String ADD_DAILY_READING_SQL =
+            "INSERT INTO daily_reading (user_id, reading_date, total_seconds, first_start, last_end, book_ids) " +
+                    "SELECT * FROM (SELECT ub.user_id, DATE(t.created_at) AS reading_date, SUM(TIMESTAMPDIFF(SECOND, t.created_at, ?)) AS seconds, " +
+                    "MIN(t.created_at) AS started_at, ? AS ended_at, CAST(ub.book_id AS CHAR) AS book_id " +
+                    "FROM " + OPEN_TIMER_JOIN + " WHERE " + OPEN_TIMER_RANGE + " " +
+                    "GROUP BY ub.user_id, DATE(t.created_at), ub.book_id) s " +
+                    "ON DUPLICATE KEY UPDATE total_seconds = total_seconds + VALUES(total_seconds), " +
+                    "first_start = LEAST(COALESCE(first_start, VALUES(first_start)), VALUES(first_start)), " +
+                    "last_end = GREATEST(COALESCE(last_end, VALUES(last_end)), VALUES(last_end)), " +
+                    "book_ids = IF(FIND_IN_SET(VALUES(book_ids), book_ids) > 0, book_ids, CONCAT(book_ids, ',', VALUES(book_ids)))";
+
+    private static final String CLOSED_USER_DATES_SQL =
+            "SELECT DISTINCT ub.user_id, DATE(t.created_at) FROM " + OPEN_TIMER_JOIN + " WHERE " + OPEN_TIMER_RANGE;
+
+    private static final String CLOSE_SQL =
+            "UPDATE " + OPEN_TIMER_JOIN + " SET t.read_time = TIMESTAMPDIFF(SECOND, t.created_at, ?), t.is_reading = false, " +
+                    "t.updated_at = ? WHERE " + OPEN_TIMER_RANGE;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReadingYearStore readingYearStore;
+
+    // 종료 대상 타이머를 가진 사용자의 [min, max] user_id (없으면 null)
+    public long[] findUserIdRange(LocalDateTime cutoff) {
+        List<long[]> rows = jdbcTemplate.query(USER_ID_RANGE_SQL, (rs, rowNum) -> {
+            long min = rs.getLong(1);
+            return rs.wasNull() ? null : new long[]{min, rs.getLong(2)};
+        }, cutoff);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    public Long findChunkUpperId(LocalDateTime cutoff, long fromUserId, long toUserId, long fromId, int chunkSize) {
+        return jdbcTemplate.queryForObject(CHUNK_UPPER_ID_SQL, Long.class, cutoff, fromUserId, toUserId, fromId, Long.MAX_VALUE, chunkSize);
+    }
+
+    // 종료한 타이머 수
+    // 앞의 쿼리들이 is_reading = true 조건으로 같은 타이머를 읽어야 하므로 Timer 종료는 마지막에 실행
+    // 종료 시각(updated_at)도 cutoff로 기록하여 daily_reading 백필의 last_end와 맞춤
+    public int close(LocalDateTime cutoff, long fromUserId, long toUserId, long fromId, long toId) {
+        jdbcTemplate.update(ADD_TOTAL_READ_TIME_SQL, cutoff, cutoff, fromUserId, toUserId, fromId, toId);
+        jdbcTemplate.update(ADD_DAILY_READING_SQL, cutoff, cutoff, cutoff, fromUserId, toUserId, fromId, toId);
+        List<UserDate> userDates = jdbcTemplate.query(CLOSED_USER_DATES_SQL,
+                (rs, rowNum) -> new UserDate(rs.getLong(1), rs.getObject(2, LocalDate.class)), cutoff, fromUserId, toUserId, fromId, toId);
+        int closed = jdbcTemplate.update(CLOSE_SQL, cutoff, cutoff, cutoff, fromUserId, toUserId, fromId, toId);
+        readingYearStore.recordAll(userDates);
+        return closed;
+    }
+}
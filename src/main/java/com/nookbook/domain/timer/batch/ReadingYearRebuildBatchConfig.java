@@ -0,0 +1,67 @@
+package com.nookbook.domain.timer.batch;
+
+import com.nookbook.domain.timer.infrastructure.ReadingYearStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+// daily_reading으로 reading_year(사용자별 연간 독서 일자)를 다시 만드는 Job
+// Timer는 도서별 보관 개수만큼만 남아 있으므로 전체 기록이 남아 있는 daily_reading을 원본으로 사용
+// user_id keyset으로 USER_BATCH_SIZE명씩 처리하고, 마지막 user_id를 ExecutionContext에 저장하여 실패 시 이어서 실행
+@Configuration
+@RequiredArgsConstructor
+public class ReadingYearRebuildBatchConfig {
+
+    private static final String LAST_USER_ID_KEY = "lastUserId";
+    private static final int USER_BATCH_SIZE = 500;
+
+    private static final String NEXT_USER_IDS_SQL =
+            "SELECT DISTINCT user_id FROM daily_reading WHERE user_id > ? ORDER BY user_id LIMIT ?";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final ReadingYearStore readingYearStore;
+
+    @Bean
+    public Job readingYearRebuildJob() {
+        return new JobBuilder("readingYearRebuildJob", jobRepository)
+                .start(readingYearRebuildStep())
+                .build();
+    }
+
+    @Bean
+    public Step readingYearRebuildStep() {
+        return new StepBuilder("readingYearRebuildStep", jobRepository)
+                .tasklet(readingYearRebuildTasklet(), transactionManager)
+                .build();
+    }
+
+    @Bean
+    public Tasklet readingYearRebuildTasklet() {
+        return (contribution, chunkContext) -> {
+            ExecutionContext context = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+            long lastUserId = context.containsKey(LAST_USER_ID_KEY) ? context.getLong(LAST_USER_ID_KEY) : 0;
+            List<Long> userIds = jdbcTemplate.queryForList(NEXT_USER_IDS_SQL, Long.class, lastUserId, USER_BATCH_SIZE);
+            if (userIds.isEmpty()) {
+                return RepeatStatus.FINISHED;
+            }
+            long toUserId = userIds.get(userIds.size() - 1);
+            contribution.incrementWriteCount(readingYearStore.rebuild(lastUserId, toUserId));
+            context.putLong(LAST_USER_ID_KEY, toUserId);
+            return userIds.size() < USER_BATCH_SIZE ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+        };
+    }
+}
@@ -0,0 +1,46 @@
+package com.nookbook.domain.timer.batch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReadingYearRebuildJobLauncher {
+
+    private final JobLauncher jobLauncher;
+    private final Job readingYearRebuildJob;
+
+    // reading_year 도입 직후 한 번만 실행 (daily_reading 백필 이후에 호출)
+    // 고정 파라미터로 실행하므로 완료 여부가 Job 메타데이터에 남고, 실패했으면 다음 기동 때 이어서 실행
+    // (테이블이 비어 있는지로 판단하면 재구성 전에 기록된 한 건 때문에 영영 건너뛸 수 있음)
+    public void rebuildOnce() {
+        launch(new JobParametersBuilder()
+                .addString("run", "initial")
+                .toJobParameters());
+    }
+
+    public void launch() {
+        launch(new JobParametersBuilder()
+                .addString("timestamp", String.valueOf(System.currentTimeMillis()))
+                .toJobParameters());
+    }
+
+    private void launch(JobParameters jobParameters) {
+        try {
+            JobExecution execution = jobLauncher.run(readingYearRebuildJob, jobParameters);
+            log.info("연간 독서 일자 재구성 Job 실행 완료 - status: {}", execution.getStatus());
+        } catch (JobInstanceAlreadyCompleteException e) {
+            log.debug("연간 독서 일자 재구성 Job 이미 완료됨 - {}", jobParameters);
+        } catch (Exception e) {
+            log.error("연간 독서 일자 재구성 Job 실행 실패", e);
+        }
+    }
+}
@@ -1,37 +1,51 @@
 package com.nookbook.domain.timer.batch;
 
-import com.nookbook.domain.timer.domain.Timer;
-import com.nookbook.domain.timer.domain.repository.TimerRepository;
-import com.nookbook.domain.user_book.domain.UserBook;
-import com.nookbook.domain.user_book.domain.repository.UserBookRepository;
-import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.partition.support.Partitioner;
 import org.springframework.batch.core.repository.JobRepository;
-import org.springframework.batch.item.ItemProcessor;
-import org.springframework.batch.item.ItemReader;
-import org.springframework.batch.item.ItemWriter;
-import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.step.builder.StepBuilder;
 
-import java.math.BigInteger;
+import java.time.Instant;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
 
+// 자정에 진행 중인 타이머를 모두 종료
+// 종료 대상 타이머를 가진 user_id 범위를 grid-size개 구간으로 나누어 병렬 처리하고, 각 구간은 timer_id keyset으로 chunk-size개씩 OpenTimerCloser로 종료
+// 사용자 단위로 나누므로 구간끼리 같은 user_book / daily_reading 행을 갱신하지 않아 서로 잠금을 기다리지 않음
+// 마지막으로 처리한 id를 ExecutionContext에 저장하므로 실패 시 같은 파라미터로 다시 실행하면 이어서 처리
+@Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class TimerBatchConfig {
 
+    private static final String FROM_USER_ID_KEY = "fromUserId";
+    private static final String TO_USER_ID_KEY = "toUserId";
+    private static final String LAST_ID_KEY = "lastId";
+
     private final JobRepository jobRepository;
-    private final TimerRepository timerRepository;
-    private final UserBookRepository userBookRepository;
     private final PlatformTransactionManager transactionManager;
-    private final EntityManagerFactory entityManagerFactory;
+    private final OpenTimerCloser openTimerCloser;
+
+    @Value("${timer.batch.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${timer.batch.grid-size:4}")
+    private int gridSize;
 
     @Bean
     public Job updateTimerJob() {
@@ -42,43 +56,75 @@ public class TimerBatchConfig {
 
     @Bean
     public Step updateTimerStep() {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("timer-batch-");
+        taskExecutor.setConcurrencyLimit(gridSize);
         return new StepBuilder("updateTimerStep", jobRepository)
-                .<Timer, Timer>chunk(100, transactionManager)
-                .reader(timerItemReader())
-                .processor(timerItemProcessor())
-                .writer(timerItemWriter())
+                .partitioner("closeOpenTimersStep", openTimerPartitioner(null))
+                .step(closeOpenTimersStep())
+                .gridSize(gridSize)
+                .taskExecutor(taskExecutor)
                 .build();
     }
 
     @Bean
-    public ItemReader<Timer> timerItemReader() {
-        return new JpaPagingItemReaderBuilder<Timer>()
-                .name("timerItemReader")
-                .entityManagerFactory(entityManagerFactory)
-                .queryString("SELECT t FROM Timer t WHERE t.isReading = true")
-                .pageSize(100)
+    public Step closeOpenTimersStep() {
+        return new StepBuilder("closeOpenTimersStep", jobRepository)
+                .tasklet(closeOpenTimersTasklet(null, null, null), transactionManager)
                 .build();
     }
 
+    // 종료 대상 [min, max] user_id를 고르게 나눔 (대상이 없으면 빈 구간 하나)
+    @Bean
+    @StepScope
+    public Partitioner openTimerPartitioner(@Value("#{jobParameters['timestamp']}") String timestamp) {
+        LocalDateTime cutoff = toCutoff(timestamp);
+        return partitionCount -> {
+            Map<String, ExecutionContext> partitions = new HashMap<>();
+            long[] range = openTimerCloser.findUserIdRange(cutoff);
+            if (range == null) {
+                partitions.put("partition0", partition(0, 0));
+                return partitions;
+            }
+            long fromUserId = range[0] - 1;
+            long span = (range[1] - fromUserId + partitionCount - 1) / partitionCount;
+            for (int i = 0; i < partitionCount && fromUserId < range[1]; i++) {
+                long toUserId = Math.min(fromUserId + span, range[1]);
+                partitions.put("partition" + i, partition(fromUserId, toUserId));
+                fromUserId = toUserId;
+            }
+            return partitions;
+        };
+    }
+
     @Bean
-    public ItemProcessor<Timer, Timer> timerItemProcessor() {
-        return timer -> {
-            BigInteger elapsedTime = BigInteger.valueOf(ChronoUnit.SECONDS.between(timer.getCreatedAt(), LocalDateTime.now()));
-            timer.updateReadTime(elapsedTime);
-            timer.updateIsReading(false);
-            updateUserBookTotalReadTime(timer, elapsedTime);
-            return timer;
+    @StepScope
+    public Tasklet closeOpenTimersTasklet(@Value("#{stepExecutionContext['fromUserId']}") Long fromUserId,
+                                          @Value("#{stepExecutionContext['toUserId']}") Long toUserId,
+                                          @Value("#{jobParameters['timestamp']}") String timestamp) {
+        LocalDateTime cutoff = toCutoff(timestamp);
+        return (contribution, chunkContext) -> {
+            ExecutionContext context = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+            long lastId = context.containsKey(LAST_ID_KEY) ? context.getLong(LAST_ID_KEY) : 0;
+            Long upperId = openTimerCloser.findChunkUpperId(cutoff, fromUserId, toUserId, lastId, chunkSize);
+            if (upperId == null) {
+                return RepeatStatus.FINISHED;
+            }
+            int closed = openTimerCloser.close(cutoff, fromUserId, toUserId, lastId, upperId);
+            contribution.incrementWriteCount(closed);
+            context.putLong(LAST_ID_KEY, upperId);
+            return RepeatStatus.CONTINUABLE;
         };
     }
 
-    private void updateUserBookTotalReadTime(Timer timer, BigInteger elapsedTime) {
-        UserBook userBook = timer.getUserBook();
-        userBook.addTotalReadTime(elapsedTime);
-        userBookRepository.save(userBook);
+    private ExecutionContext partition(long fromUserId, long toUserId) {
+        ExecutionContext context = new ExecutionContext();
+        context.putLong(FROM_USER_ID_KEY, fromUserId);
+        context.putLong(TO_USER_ID_KEY, toUserId);
+        return context;
     }
 
-    @Bean
-    public ItemWriter<Timer> timerItemWriter() {
-        return timers -> timerRepository.saveAll(timers);
+    // job 파라미터(실행 시각)를 기준 시각으로 사용하여 재실행해도 같은 경과 시간으로 계산
+    private LocalDateTime toCutoff(String timestamp) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(timestamp)), ZoneId.systemDefault());
     }
 }
@@ -1,20 +1,29 @@
 package com.nookbook.domain.timer.batch;
 
+import com.nookbook.domain.timer.infrastructure.ReadingSessionRecovery;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
+@Slf4j
 @Component
 @RequiredArgsConstructor
 @EnableScheduling
 public class TimerBatchJobLauncher {
     private final JobLauncher jobLauncher;
     private final Job updateTimerJob;
+    private final ReadingSessionRecovery readingSessionRecovery;
 
     @Scheduled(cron = "0 0 0 * * ?") // 매일 자정 실행
     public void runBatchJob() {
@@ -22,10 +31,30 @@ public class TimerBatchJobLauncher {
             JobParameters jobParameters = new JobParametersBuilder()
                     .addString("timestamp", String.valueOf(System.currentTimeMillis()))
                     .toJobParameters();
-            jobLauncher.run(updateTimerJob, jobParameters);
+            JobExecution execution = jobLauncher.run(updateTimerJob, jobParameters);
+            logThroughput(execution);
+            if (execution.getStatus() != BatchStatus.COMPLETED) {
+                log.warn("자정 타이머 종료 배치 미완료로 독서 세션 목록 복구 생략 - status: {}", execution.getStatus());
+                return;
+            }
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("자정 타이머 종료 배치 실패", e);
+            return;
         }
+        // 배치로 종료된 타이머를 독서 세션 목록에도 반영
+        readingSessionRecovery.recover();
+    }
+
+    // 종료한 타이머 수 / 초
+    private void logThroughput(JobExecution execution) {
+        long closed = execution.getStepExecutions().stream()
+                .filter(stepExecution -> stepExecution.getStepName().equals("updateTimerStep"))
+                .mapToLong(StepExecution::getWriteCount)
+                .sum();
+        long elapsedMillis = execution.getStartTime() != null && execution.getEndTime() != null
+                ? Duration.between(execution.getStartTime(), execution.getEndTime()).toMillis() : 0;
+        long perSecond = elapsedMillis > 0 ? closed * 1000 / elapsedMillis : closed;
+        log.info("자정 타이머 종료 배치 - status: {}, 종료: {}건, {}ms, {}건/s", execution.getStatus(), closed, elapsedMillis, perSecond);
     }
 }
 
@@ -0,0 +1,56 @@
+package com.nookbook.domain.timer.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+// 사용자별 하루 독서 기록 집계 (캘린더 조회 시 Timer를 날짜 함수로 조회하지 않기 위함)
+// 타이머가 종료될 때 DailyReadingRepository.accumulate로 더하고, 누락분은 dailyReadingBackfillJob으로 채움
+@Entity
+@Table(name = "daily_reading", uniqueConstraints = @UniqueConstraint(name = "uk_daily_reading_user_date", columnNames = {"user_id", "reading_date"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyReading {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "daily_reading_id", updatable = false, nullable = false)
+    private Long dailyReadingId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // 타이머 시작일
+    @Column(name = "reading_date", nullable = false)
+    private LocalDate readingDate;
+
+    @Column(name = "total_seconds", nullable = false)
+    private long totalSeconds;
+
+    // 그날 가장 먼저 시작한 타이머의 시작 시각
+    @Column(name = "first_start")
+    private LocalDateTime firstStart;
+
+    // 그날 가장 늦게 종료된 타이머의 종료 시각
+    @Column(name = "last_end")
+    private LocalDateTime lastEnd;
+
+    // 읽은 도서 id (쉼표 구분, 중복 없음)
+    @Column(name = "book_ids", nullable = false, length = 2000)
+    private String bookIds;
+
+    public List<Long> getBookIdList() {
+        if (bookIds == null || bookIds.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(bookIds.split(","))
+                .map(Long::valueOf)
+                .toList();
+    }
+}
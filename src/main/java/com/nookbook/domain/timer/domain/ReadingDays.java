@@ -0,0 +1,105 @@
+package com.nookbook.domain.timer.domain;
+
+import java.nio.ByteBuffer;
+
+// 한 사용자의 1년치 독서 일자 (reading_year.days 컬럼)
+// 형식: [version:byte][읽은 날 bitmap 46byte (366bit, 1월 1일 = bit 0)][일별 독서 분 366 x short]
+// 일별 값은 daily_reading.total_seconds를 그대로 옮긴 것 (더하지 않고 덮어쓰므로 여러 번 반영해도 같음)
+public class ReadingDays {
+
+    public static final int DAYS = 366;
+    private static final byte VERSION = 1;
+    private static final int BITMAP_BYTES = (DAYS + 7) / 8;
+    public static final int ENCODED_SIZE = 1 + BITMAP_BYTES + DAYS * Short.BYTES;
+
+    private final long[] bits = new long[(DAYS + 63) / 64];
+    private final short[] minutes = new short[DAYS];
+
+    public static ReadingDays empty() {
+        return new ReadingDays();
+    }
+
+    // null 또는 알 수 없는 형식이면 빈 값
+    public static ReadingDays decode(byte[] data) {
+        ReadingDays days = new ReadingDays();
+        if (data == null || data.length != ENCODED_SIZE || data[0] != VERSION) {
+            return days;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(data, 1, data.length - 1);
+        for (int i = 0; i < BITMAP_BYTES; i++) {
+            days.bits[i >>> 3] |= (buffer.get() & 0xFFL) << ((i & 7) << 3);
+        }
+        for (int i = 0; i < DAYS; i++) {
+            days.minutes[i] = buffer.getShort();
+        }
+        return days;
+    }
+
+    public byte[] encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_SIZE);
+        buffer.put(VERSION);
+        for (int i = 0; i < BITMAP_BYTES; i++) {
+            buffer.put((byte) (bits[i >>> 3] >>> ((i & 7) << 3)));
+        }
+        for (short minute : minutes) {
+            buffer.putShort(minute);
+        }
+        return buffer.array();
+    }
+
+    // dayOfYear: 1 ~ 366
+    public void put(int dayOfYear, long totalSeconds) {
+        int index = dayOfYear - 1;
+        if (totalSeconds > 0) {
+            bits[index >>> 6] |= 1L << index;
+        } else {
+            bits[index >>> 6] &= ~(1L << index);
+        }
+        minutes[index] = (short) Math.min(Math.max(totalSeconds, 0) / 60, Short.MAX_VALUE);
+    }
+
+    public boolean isReadingDay(int dayOfYear) {
+        int index = dayOfYear - 1;
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public int getMinutes(int dayOfYear) {
+        return minutes[dayOfYear - 1];
+    }
+
+    public int countReadingDays() {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    // dayOfYear에서 끝나는 연속 독서일 수
+    public int streakEndingAt(int dayOfYear) {
+        int streak = 0;
+        for (int day = dayOfYear; day >= 1 && isReadingDay(day); day--) {
+            streak++;
+        }
+        return streak;
+    }
+
+    // 1월 1일부터 시작하는 연속 독서일 수
+    public int leadingStreak(int lengthOfYear) {
+        int streak = 0;
+        for (int day = 1; day <= lengthOfYear && isReadingDay(day); day++) {
+            streak++;
+        }
+        return streak;
+    }
+
+    public int longestStreak(int lengthOfYear) {
+        int longest = 0;
+        int current = 0;
+        for (int day = 1; day <= lengthOfYear; day++) {
+            current = isReadingDay(day) ? current + 1 : 0;
+            longest = Math.max(longest, current);
+        }
+        return longest;
+    }
+}
@@ -0,0 +1,39 @@
+package com.nookbook.domain.timer.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 사용자별 연간 독서 일자 (연속 독서일 / 연간 히트맵 조회용, Timer를 조회하지 않음)
+// 타이머가 종료될 때 ReadingYearStore가 갱신하고, 누락분은 readingYearRebuildJob으로 daily_reading에서 다시 만듦
+@Entity
+@Table(name = "reading_year", uniqueConstraints = @UniqueConstraint(name = "uk_reading_year_user_year", columnNames = {"user_id", "year"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReadingYear {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "reading_year_id", updatable = false, nullable = false)
+    private Long readingYearId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "year", nullable = false)
+    private int year;
+
+    // ReadingDays 직렬화 값
+    @Column(name = "days", nullable = false, length = ReadingDays.ENCODED_SIZE)
+    private byte[] days;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public ReadingDays toReadingDays() {
+        return ReadingDays.decode(days);
+    }
+}
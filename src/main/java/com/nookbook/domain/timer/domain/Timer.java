@@ -7,10 +7,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.math.BigInteger;
-
 @Entity
-@Table(name="Timer")
+@Table(name="Timer", indexes = @Index(name = "idx_timer_user_created_at", columnList = "user_id, created_at"))
 @NoArgsConstructor
 @Getter
 public class Timer extends BaseEntity {
@@ -24,19 +22,26 @@ public class Timer extends BaseEntity {
     @JoinColumn(name = "user_book_id")
     private UserBook userBook;
 
-    private BigInteger readTime;
+    // userBook.user 비정규화 (사용자 + 기간 조회를 (user_id, created_at) 인덱스로 처리하기 위함)
+    @Column(name = "user_id")
+    private Long userId;
+
+    // 독서 시간 (초)
+    @Column(name = "read_time", nullable = false)
+    private long readTime;
 
     @Column(name = "is_reading")
     private boolean isReading;
 
     @Builder
-    public Timer(UserBook userBook, BigInteger readTime, boolean isReading) {
+    public Timer(UserBook userBook, long readTime, boolean isReading) {
         this.userBook = userBook;
+        this.userId = userBook.getUser().getUserId();
         this.readTime = readTime;
         this.isReading = isReading;
     }
 
-    public void updateReadTime(BigInteger readTime) {
+    public void updateReadTime(long readTime) {
         this.readTime = readTime;
     }
 
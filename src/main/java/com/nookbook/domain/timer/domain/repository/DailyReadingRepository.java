@@ -0,0 +1,62 @@
+package com.nookbook.domain.timer.domain.repository;
+
+import com.nookbook.domain.timer.domain.DailyReading;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DailyReadingRepository extends JpaRepository<DailyReading, Long> {
+
+    Optional<DailyReading> findByUserIdAndReadingDate(Long userId, LocalDate readingDate);
+
+    // (user_id, reading_date) 유니크 인덱스 범위 조회 한 번으로 한 달치를 읽음
+    List<DailyReading> findByUserIdAndReadingDateBetweenOrderByReadingDate(Long userId, LocalDate from, LocalDate to);
+
+    // 종료된 타이머 한 건을 해당 날짜 집계에 더함 (행이 없으면 생성, 한 문장으로 처리하여 동시에 종료되어도 누락 없음)
+    @Modifying
+    @Query(value = "INSERT INTO daily_reading (user_id, reading_date, total_seconds, first_start, last_end, book_ids) " +
+            "VALUES (:userId, :readingDate, :seconds, :startedAt, :endedAt, :bookId) " +
+            "ON DUPLICATE KEY UPDATE total_seconds = total_seconds + VALUES(total_seconds), " +
+            "first_start = LEAST(COALESCE(first_start, VALUES(first_start)), VALUES(first_start)), " +
+            "last_end = GREATEST(COALESCE(last_end, VALUES(last_end)), VALUES(last_end)), " +
+            "book_ids = IF(FIND_IN_SET(VALUES(book_ids), book_ids) > 0, book_ids, CONCAT(book_ids, ',', VALUES(book_ids)))",
+            nativeQuery = true)
+    void accumulate(@Param("userId") Long userId, @Param("readingDate") LocalDate readingDate, @Param("seconds") long seconds,
+                    @Param("startedAt") LocalDateTime startedAt, @Param("endedAt") LocalDateTime endedAt, @Param("bookId") String bookId);
+
+    // 백필: [from, to) 구간의 집계를 Timer로 다시 계산하여 반영 (행이 없으면 생성)
+    // 백필 전에 accumulate로 먼저 생긴 행(일부 타이머만 더해진 행)은 Timer 합계로 바로잡고,
+    // 보관 개수 제한으로 Timer가 지워져 다시 계산한 값이 더 작으면 기존 값을 유지 (GREATEST)
+    // book_ids는 total_seconds가 바뀌기 전 값과 비교해야 하므로 먼저 갱신
+    // INSERT ... SELECT는 읽는 timer 행에 공유 잠금을 걸므로, 진행 중인 타이머 종료(timer -> daily_reading 순서로 잠금)가 커밋된 뒤의 값으로 계산됨
+    @Modifying
+    @Query(value = "INSERT INTO daily_reading (user_id, reading_date, total_seconds, first_start, last_end, book_ids) " +
+            "SELECT * FROM (SELECT ub.user_id, DATE(t.created_at) AS reading_date, COALESCE(SUM(t.read_time), 0) AS total_seconds, " +
+            "MIN(t.created_at) AS first_start, MAX(t.updated_at) AS last_end, GROUP_CONCAT(DISTINCT ub.book_id ORDER BY ub.book_id) AS book_ids " +
+            "FROM timer t JOIN user_book ub ON ub.user_book_id = t.user_book_id " +
+            "WHERE t.is_reading = false AND t.created_at >= :from AND t.created_at < :to " +
+            "GROUP BY ub.user_id, DATE(t.created_at)) s " +
+            "ON DUPLICATE KEY UPDATE book_ids = IF(VALUES(total_seconds) >= total_seconds, VALUES(book_ids), book_ids), " +
+            "total_seconds = GREATEST(total_seconds, VALUES(total_seconds)), " +
+            "first_start = LEAST(COALESCE(first_start, VALUES(first_start)), VALUES(first_start)), " +
+            "last_end = GREATEST(COALESCE(last_end, VALUES(last_end)), VALUES(last_end))", nativeQuery = true)
+    int recompute(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // 이미 있는 (user_id, reading_date) 행은 건드리지 않음 (보관 개수 제한으로 지워진 Timer가 있어도 집계가 줄어들지 않도록)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO daily_reading (user_id, reading_date, total_seconds, first_start, last_end, book_ids) " +
+            "SELECT ub.user_id, DATE(t.created_at), COALESCE(SUM(t.read_time), 0), MIN(t.created_at), MAX(t.updated_at), " +
+            "GROUP_CONCAT(DISTINCT ub.book_id ORDER BY ub.book_id) " +
+            "FROM timer t JOIN user_book ub ON ub.user_book_id = t.user_book_id " +
+            "WHERE t.is_reading = false AND t.created_at >= :from AND t.created_at < :to " +
+            "GROUP BY ub.user_id, DATE(t.created_at)", nativeQuery = true)
+    int backfill(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
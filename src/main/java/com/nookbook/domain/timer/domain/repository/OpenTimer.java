@@ -0,0 +1,21 @@
+package com.nookbook.domain.timer.domain.repository;
+
+import java.time.LocalDateTime;
+
+// 진행 중인 타이머 프로젝션 (독서 세션 목록 복구용)
+public interface OpenTimer {
+
+    Long getTimerId();
+
+    Long getUserId();
+
+    Long getUserBookId();
+
+    Long getBookId();
+
+    String getTitle();
+
+    String getImage();
+
+    LocalDateTime getCreatedAt();
+}
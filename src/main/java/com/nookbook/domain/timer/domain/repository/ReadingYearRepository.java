@@ -0,0 +1,16 @@
+package com.nookbook.domain.timer.domain.repository;
+
+import com.nookbook.domain.timer.domain.ReadingYear;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ReadingYearRepository extends JpaRepository<ReadingYear, Long> {
+
+    Optional<ReadingYear> findByUserIdAndYear(Long userId, int year);
+
+    List<ReadingYear> findByUserIdOrderByYear(Long userId);
+}
@@ -2,25 +2,20 @@ package com.nookbook.domain.timer.domain.repository;
 
 import com.nookbook.domain.challenge.domain.Participant;
 import com.nookbook.domain.timer.domain.Timer;
-import com.nookbook.domain.user.domain.User;
 import com.nookbook.domain.user_book.domain.UserBook;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TimerRepository extends JpaRepository<Timer, Long> {
-    int countByUserBook(UserBook userBook);
-
-    Timer findTop1ByUserBookOrderByCreatedAtAsc(UserBook userBook);
-
     List<Timer> findByUserBookAndIsReadingOrderByCreatedAtDesc(UserBook userBook, boolean isReading);
 
     Optional<Timer> findByUserBookAndIsReading(UserBook userBook, boolean isReading);
@@ -31,13 +26,32 @@ public interface TimerRepository extends JpaRepository<Timer, Long> {
 
     List<Timer> findByUserBookAndCreatedAtAfter(UserBook userBook, LocalDateTime localDateTime);
 
-    @Query("SELECT t FROM Timer t WHERE t.userBook.user = :user AND FUNCTION('DATE', t.createdAt) = :localDate")
-    List<Timer> findByUserAndCreatedAt(User user, LocalDate localDate);
+    // [from, to) 구간에 시작한 타이머 목록 (시작 순, 엔티티 대신 목록용 컬럼만)
+    @Query("SELECT t.timerId AS timerId, b.bookId AS bookId, b.title AS title, b.image AS image, " +
+            "t.readTime AS readTime, t.isReading AS reading, t.createdAt AS createdAt " +
+            "FROM Timer t JOIN t.userBook ub JOIN ub.book b " +
+            "WHERE t.userId = :userId AND t.createdAt >= :from AND t.createdAt < :to ORDER BY t.createdAt")
+    List<TimerRow> findRowsByUserIdAndCreatedAtBetween(Long userId, LocalDateTime from, LocalDateTime to);
 
-    @Query("SELECT t FROM Timer t WHERE t IN :todayTimers ORDER BY t.createdAt DESC LIMIT 1")
-    Timer findRecentTimer(@Param("todayTimers") List<Timer> todayTimers);
+    // [from, to) 구간에 시작한 타이머의 독서 시간 합
+    @Query("SELECT SUM(t.readTime) FROM Timer t WHERE t.userId = :userId AND t.createdAt >= :from AND t.createdAt < :to")
+    Long sumReadTimeByUserIdAndCreatedAtBetween(Long userId, LocalDateTime from, LocalDateTime to);
 
-    @Query("SELECT SUM(t.readTime) FROM Timer t WHERE t IN :todayTimers")
-    String sumTotalReadTime(@Param("todayTimers") List<Timer> todayTimers);
+    // user_id 컬럼 추가 이전에 생성된 타이머 채우기 (잠금 시간을 줄이기 위해 limit 단위로 나누어 실행)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE timer SET user_id = (SELECT ub.user_id FROM user_book ub WHERE ub.user_book_id = timer.user_book_id) " +
+            "WHERE user_id IS NULL LIMIT :limit", nativeQuery = true)
+    int fillMissingUserIds(@Param("limit") int limit);
+
+    // 진행 중인 타이머 (독서 세션 목록 복구용)
+    @Query("SELECT t.timerId AS timerId, ub.user.userId AS userId, ub.userBookId AS userBookId, b.bookId AS bookId, " +
+            "b.title AS title, b.image AS image, t.createdAt AS createdAt " +
+            "FROM Timer t JOIN t.userBook ub JOIN ub.book b WHERE t.isReading = true")
+    List<OpenTimer> findOpenTimers();
+
+    // 가장 오래된 타이머 시작 시각 (독서 기록 집계 백필 시작일)
+    @Query("SELECT MIN(t.createdAt) FROM Timer t")
+    Optional<LocalDateTime> findEarliestCreatedAt();
 
 }
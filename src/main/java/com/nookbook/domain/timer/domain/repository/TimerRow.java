@@ -0,0 +1,21 @@
+package com.nookbook.domain.timer.domain.repository;
+
+import java.time.LocalDateTime;
+
+// 기간별 타이머 목록 프로젝션 (Timer/UserBook/Book 엔티티를 불러오지 않음)
+public interface TimerRow {
+
+    Long getTimerId();
+
+    Long getBookId();
+
+    String getTitle();
+
+    String getImage();
+
+    long getReadTime();
+
+    boolean isReading();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,46 @@
+package com.nookbook.domain.timer.infrastructure;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 독서 시간 컬럼을 DECIMAL(BigInteger) -> BIGINT(long)로 변경 (이미 BIGINT이면 조회 한 번으로 끝남)
+// 엔티티 필드가 long이라 NULL 행이 남아 있으면 조회에 실패하므로, 웹 서버가 요청을 받기 전(빈 초기화 중)에 끝까지 실행
+// NULL -> 0 변경이 실패하면 기동을 중단하고, 컬럼 타입 변경만 실패한 경우에는 기존 타입으로 계속 동작
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReadTimeColumnMigration {
+
+    private static final String COLUMN_TYPE_SQL = "SELECT DATA_TYPE FROM information_schema.COLUMNS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND LOWER(TABLE_NAME) = ? AND COLUMN_NAME = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void migrate() {
+        migrateColumn("timer", "read_time");
+        migrateColumn("user_book", "total_read_time");
+    }
+
+    private void migrateColumn(String table, String column) {
+        List<String> types = jdbcTemplate.queryForList(COLUMN_TYPE_SQL, String.class, table, column);
+        if (types.isEmpty() || "bigint".equalsIgnoreCase(types.get(0))) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        jdbcTemplate.update("UPDATE " + table + " SET " + column + " = 0 WHERE " + column + " IS NULL");
+        try {
+            jdbcTemplate.execute("ALTER TABLE " + table + " MODIFY " + column + " BIGINT NOT NULL DEFAULT 0");
+        } catch (DataAccessException e) {
+            log.error("독서 시간 컬럼 타입 변경 실패 - {}.{}: {}", table, column, e.getMessage(), e);
+            return;
+        }
+        log.info("독서 시간 컬럼 변경 - {}.{} {} -> bigint, {}ms", table, column, types.get(0), System.currentTimeMillis() - startedAt);
+    }
+}
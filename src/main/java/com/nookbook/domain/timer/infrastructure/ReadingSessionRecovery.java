@@ -0,0 +1,42 @@
+package com.nookbook.domain.timer.infrastructure;
+
+import com.nookbook.domain.timer.domain.repository.OpenTimer;
+import com.nookbook.domain.timer.domain.repository.TimerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReadingSessionRecovery {
+
+    private final TimerRepository timerRepository;
+    private final ReadingSessionRegistry readingSessionRegistry;
+
+    // 기동 시 진행 중인 Timer(is_reading = true)로 독서 세션 목록 복구
+    // 조회 전에 beginRebuild를 호출하여, 조회 이후 커밋된 시작/종료가 복구 결과에 덮어써지지 않도록 함
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        readingSessionRegistry.beginRebuild();
+        try {
+            List<OpenTimer> openTimers = timerRepository.findOpenTimers();
+            List<ReadingSessionRegistry.ReadingSession> sessions = new ArrayList<>(openTimers.size());
+            for (OpenTimer openTimer : openTimers) {
+                sessions.add(new ReadingSessionRegistry.ReadingSession(
+                        openTimer.getTimerId(), openTimer.getUserId(), openTimer.getUserBookId(), openTimer.getBookId(),
+                        openTimer.getTitle(), openTimer.getImage(), openTimer.getCreatedAt(), null));
+            }
+            readingSessionRegistry.rebuild(sessions);
+        } catch (RuntimeException e) {
+            readingSessionRegistry.cancelRebuild();
+            // 복구 전에는 DB로 판단하므로 서비스에는 영향 없음
+            log.error("독서 세션 목록 복구 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.nookbook.domain.timer.infrastructure;
+
+import com.nookbook.global.util.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 사용자별 진행 중인 독서 세션(타이머) 목록
+// "지금 읽고 있는지", "지금 읽는 책"을 Timer 테이블 조회 없이 판단하기 위함 (Timer 테이블은 기록 용도)
+// 타이머 시작/종료 트랜잭션이 커밋된 뒤 반영하고, 기동 시 진행 중인 Timer로 복구함
+// 서버 인스턴스별 메모리이므로 여러 인스턴스로 운영하면 같은 사용자의 요청이 같은 인스턴스로 가야 함
+@Slf4j
+@Component
+public class ReadingSessionRegistry {
+
+    private final Map<Long, UserSessions> sessions = new ConcurrentHashMap<>();
+
+    // 복구 전에는 목록이 불완전하므로 호출하는 쪽에서 DB로 판단
+    private volatile boolean ready;
+
+    // 복구 중(진행 중인 Timer 조회 ~ rebuild) 반영된 시작/종료
+    // 조회 결과에는 빠져 있거나 이미 종료된 타이머가 남아 있을 수 있으므로 rebuild에서 다시 반영
+    private List<ReadingSession> startedDuringRebuild;
+    private Set<Long> endedDuringRebuild;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void start(ReadingSession session) {
+        TransactionCallbacks.afterCommit(() -> applyStart(session));
+    }
+
+    public void end(Long userId, Long timerId) {
+        LocalDateTime endedAt = LocalDateTime.now();
+        TransactionCallbacks.afterCommit(() -> applyEnd(userId, timerId, endedAt));
+    }
+
+    // 시작/종료 반영은 rebuild와 같은 잠금으로 직렬화 (rebuild 도중의 변경이 덮어써지지 않도록)
+    private synchronized void applyStart(ReadingSession session) {
+        if (startedDuringRebuild != null) {
+            startedDuringRebuild.add(session);
+        }
+        sessions.compute(session.userId(), (userId, current) ->
+                new UserSessions(withStarted(current == null ? List.of() : current.active(), session), session));
+    }
+
+    private synchronized void applyEnd(Long userId, Long timerId, LocalDateTime endedAt) {
+        if (endedDuringRebuild != null) {
+            endedDuringRebuild.add(timerId);
+        }
+        sessions.computeIfPresent(userId, (id, current) -> {
+            List<ReadingSession> active = new ArrayList<>(current.active());
+            active.removeIf(session -> session.timerId().equals(timerId));
+            ReadingSession last = current.last();
+            if (last != null && last.timerId().equals(timerId)) {
+                last = last.endedAt(endedAt);
+            }
+            return new UserSessions(List.copyOf(active), last);
+        });
+    }
+
+    // 같은 도서의 이전 타이머는 새 타이머 시작 시 종료됨
+    private static List<ReadingSession> withStarted(List<ReadingSession> current, ReadingSession session) {
+        List<ReadingSession> active = new ArrayList<>(current.size() + 1);
+        for (ReadingSession activeSession : current) {
+            if (!activeSession.userBookId().equals(session.userBookId())) {
+                active.add(activeSession);
+            }
+        }
+        active.add(session);
+        return List.copyOf(active);
+    }
+
+    // 진행 중인 타이머 (도서별)
+    public Optional<ReadingSession> findActive(Long userId, Long userBookId) {
+        UserSessions current = sessions.get(userId);
+        if (current == null) {
+            return Optional.empty();
+        }
+        return current.active().stream()
+                .filter(session -> session.userBookId().equals(userBookId))
+                .findFirst();
+    }
+
+    // 가장 최근에 시작한 세션 (진행 중이거나, date에 시작해 종료된 세션)
+    // 이 서버가 기동한 뒤 기록된 세션만 알 수 있으므로, 없으면 호출하는 쪽에서 DB로 판단
+    public Optional<ReadingSession> findLatest(Long userId, LocalDate date) {
+        UserSessions current = sessions.get(userId);
+        if (current == null) {
+            return Optional.empty();
+        }
+        if (!current.active().isEmpty()) {
+            return Optional.of(current.active().get(current.active().size() - 1));
+        }
+        ReadingSession last = current.last();
+        if (last != null && last.startedAt().toLocalDate().equals(date)) {
+            return Optional.of(last);
+        }
+        return Optional.empty();
+    }
+
+    // 진행 중인 Timer를 조회하기 전에 호출 (이후 반영되는 시작/종료를 rebuild까지 모아 둠)
+    // 이미 복구 중이면 모아 둔 목록을 이어서 사용
+    public synchronized void beginRebuild() {
+        if (startedDuringRebuild == null) {
+            startedDuringRebuild = new ArrayList<>();
+            endedDuringRebuild = new HashSet<>();
+        }
+    }
+
+    public synchronized void cancelRebuild() {
+        startedDuringRebuild = null;
+        endedDuringRebuild = null;
+    }
+
+    // 진행 중인 Timer 목록으로 다시 채움 (기동 시, 자정 타이머 종료 배치 후)
+    // 조회 이후 반영된 시작/종료를 조회 결과에 합쳐서 교체
+    public synchronized void rebuild(List<ReadingSession> openSessions) {
+        Set<Long> ended = endedDuringRebuild == null ? Set.of() : endedDuringRebuild;
+        List<ReadingSession> started = startedDuringRebuild == null ? List.of() : startedDuringRebuild;
+        cancelRebuild();
+
+        Map<Long, List<ReadingSession>> byUser = new HashMap<>();
+        for (ReadingSession session : openSessions) {
+            if (!ended.contains(session.timerId())) {
+                byUser.computeIfAbsent(session.userId(), id -> new ArrayList<>()).add(session);
+            }
+        }
+        for (ReadingSession session : started) {
+            if (!ended.contains(session.timerId())) {
+                byUser.compute(session.userId(), (id, active) -> new ArrayList<>(withStarted(active == null ? List.of() : active, session)));
+            }
+        }
+        // 종료된 세션 정보(last)는 유지하고 진행 중 목록만 교체
+        sessions.replaceAll((userId, current) -> new UserSessions(List.of(), current.last() != null && current.last().endedAt() == null
+                ? current.last().endedAt(LocalDateTime.now()) : current.last()));
+        byUser.forEach((userId, active) -> {
+            active.sort(Comparator.comparing(ReadingSession::startedAt));
+            sessions.put(userId, new UserSessions(List.copyOf(active), active.get(active.size() - 1)));
+        });
+        ready = true;
+        log.info("독서 세션 목록 복구 - 진행 중: {}명, {}건 (복구 중 시작 {}건, 종료 {}건)",
+                byUser.size(), openSessions.size(), started.size(), ended.size());
+    }
+
+    private record UserSessions(List<ReadingSession> active, ReadingSession last) {
+    }
+
+    public record ReadingSession(Long timerId, Long userId, Long userBookId, Long bookId,
+                                 String bookTitle, String bookImage, LocalDateTime startedAt, LocalDateTime endedAt) {
+
+        public boolean isReading() {
+            return endedAt == null;
+        }
+
+        ReadingSession endedAt(LocalDateTime endedAt) {
+            return new ReadingSession(timerId, userId, userBookId, bookId, bookTitle, bookImage, startedAt, endedAt);
+        }
+    }
+}
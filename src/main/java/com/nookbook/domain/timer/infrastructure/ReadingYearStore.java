@@ -0,0 +1,133 @@
+package com.nookbook.domain.timer.infrastructure;
+
+import com.nookbook.domain.timer.domain.ReadingDays;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.*;
+
+// reading_year 갱신
+// 일별 값은 daily_reading.total_seconds를 읽어 덮어쓰므로, daily_reading을 갱신한 같은 트랜잭션 안에서 호출
+@Component
+@RequiredArgsConstructor
+public class ReadingYearStore {
+
+    // 한 번에 IN 조건으로 묶을 (사용자, 날짜) 수
+    private static final int MAX_KEYS_PER_QUERY = 500;
+
+    private static final String INSERT_EMPTY_SQL =
+            "INSERT IGNORE INTO reading_year (user_id, year, days, updated_at) VALUES (?, ?, ?, NOW())";
+
+    private static final String UPDATE_SQL =
+            "UPDATE reading_year SET days = ?, updated_at = NOW() WHERE user_id = ? AND year = ?";
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO reading_year (user_id, year, days, updated_at) VALUES (?, ?, ?, NOW()) " +
+                    "ON DUPLICATE KEY UPDATE days = VALUES(days), updated_at = NOW()";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record UserDate(Long userId, LocalDate date) {
+    }
+
+    private record UserYear(Long userId, int year) {
+    }
+
+    public void record(Long userId, LocalDate date) {
+        recordAll(List.of(new UserDate(userId, date)));
+    }
+
+    // 해당 (사용자, 날짜)의 daily_reading 값을 사용자별 연간 독서 일자에 반영
+    // (사용자, 연도) 순으로 정렬해 잠그므로 동시에 실행되어도 잠금 순서가 같음
+    public void recordAll(Collection<UserDate> userDates) {
+        if (userDates.isEmpty()) {
+            return;
+        }
+        List<UserDate> keys = new ArrayList<>(new HashSet<>(userDates));
+        keys.sort(Comparator.comparing(UserDate::userId).thenComparing(UserDate::date));
+        for (int from = 0; from < keys.size(); from += MAX_KEYS_PER_QUERY) {
+            recordChunk(keys.subList(from, Math.min(from + MAX_KEYS_PER_QUERY, keys.size())));
+        }
+    }
+
+    private void recordChunk(List<UserDate> keys) {
+        Map<UserDate, Long> totals = findTotalSeconds(keys);
+        TreeMap<UserYear, List<UserDate>> byYear = new TreeMap<>(Comparator.comparing(UserYear::userId).thenComparingInt(UserYear::year));
+        for (UserDate key : keys) {
+            byYear.computeIfAbsent(new UserYear(key.userId(), key.date().getYear()), k -> new ArrayList<>()).add(key);
+        }
+        List<UserYear> years = new ArrayList<>(byYear.keySet());
+
+        byte[] empty = ReadingDays.empty().encode();
+        jdbcTemplate.batchUpdate(INSERT_EMPTY_SQL, years.stream()
+                .map(year -> new Object[]{year.userId(), year.year(), empty})
+                .toList());
+
+        Map<UserYear, ReadingDays> current = lockYears(years);
+        List<Object[]> updates = new ArrayList<>(years.size());
+        for (Map.Entry<UserYear, List<UserDate>> entry : byYear.entrySet()) {
+            ReadingDays days = current.getOrDefault(entry.getKey(), ReadingDays.empty());
+            for (UserDate key : entry.getValue()) {
+                days.put(key.date().getDayOfYear(), totals.getOrDefault(key, 0L));
+            }
+            updates.add(new Object[]{days.encode(), entry.getKey().userId(), entry.getKey().year()});
+        }
+        jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+    }
+
+    private Map<UserDate, Long> findTotalSeconds(List<UserDate> keys) {
+        String sql = "SELECT user_id, reading_date, total_seconds FROM daily_reading WHERE (user_id, reading_date) IN (" +
+                placeholders(keys.size()) + ")";
+        Object[] args = new Object[keys.size() * 2];
+        for (int i = 0; i < keys.size(); i++) {
+            args[i * 2] = keys.get(i).userId();
+            args[i * 2 + 1] = keys.get(i).date();
+        }
+        Map<UserDate, Long> totals = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            totals.put(new UserDate(rs.getLong(1), rs.getObject(2, LocalDate.class)), rs.getLong(3));
+        }, args);
+        return totals;
+    }
+
+    private Map<UserYear, ReadingDays> lockYears(List<UserYear> years) {
+        String sql = "SELECT user_id, year, days FROM reading_year WHERE (user_id, year) IN (" +
+                placeholders(years.size()) + ") ORDER BY user_id, year FOR UPDATE";
+        Object[] args = new Object[years.size() * 2];
+        for (int i = 0; i < years.size(); i++) {
+            args[i * 2] = years.get(i).userId();
+            args[i * 2 + 1] = years.get(i).year();
+        }
+        Map<UserYear, ReadingDays> current = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            current.put(new UserYear(rs.getLong(1), rs.getInt(2)), ReadingDays.decode(rs.getBytes(3)));
+        }, args);
+        return current;
+    }
+
+    // 재구성: (fromUserId, toUserId] 사용자의 daily_reading 전체로 연간 독서 일자를 다시 만듦
+    // 서비스 중에 실행되므로 daily_reading을 공유 잠금으로 읽어, 진행 중인 타이머 종료가 커밋된 뒤의 값으로 덮어씀
+    // (record와 같이 daily_reading -> reading_year 순서로 잠금)
+    public int rebuild(long fromUserId, long toUserId) {
+        Map<UserYear, ReadingDays> rebuilt = new TreeMap<>(Comparator.comparing(UserYear::userId).thenComparingInt(UserYear::year));
+        jdbcTemplate.query("SELECT user_id, reading_date, total_seconds FROM daily_reading WHERE user_id > ? AND user_id <= ? FOR SHARE", rs -> {
+            LocalDate date = rs.getObject(2, LocalDate.class);
+            rebuilt.computeIfAbsent(new UserYear(rs.getLong(1), date.getYear()), k -> ReadingDays.empty())
+                    .put(date.getDayOfYear(), rs.getLong(3));
+        }, fromUserId, toUserId);
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rebuilt.entrySet().stream()
+                .map(entry -> new Object[]{entry.getKey().userId(), entry.getKey().year(), entry.getValue().encode()})
+                .toList());
+        return rebuilt.size();
+    }
+
+    private String placeholders(int count) {
+        StringJoiner joiner = new StringJoiner(", ");
+        for (int i = 0; i < count; i++) {
+            joiner.add("(?, ?)");
+        }
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,117 @@
+package com.nookbook.domain.timer.infrastructure;
+
+import com.nookbook.global.util.TransactionCallbacks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 도서(UserBook)별 타이머 보관 개수 유지
+// 최근 N개를 제외한 타이머를 DELETE 한 번으로 지움 (행 수와 관계없이 요청 스레드에서는 쿼리를 실행하지 않음)
+@Slf4j
+@Component
+public class TimerRetention {
+
+    // 최근 순 순위가 maxPerUserBook을 넘는 종료된 타이머 삭제 (user_book_id 인덱스 범위만 읽음)
+    private static final String TRIM_SQL = "DELETE t FROM timer t JOIN (" +
+            "SELECT r.timer_id FROM (SELECT timer_id, is_reading, " +
+            "ROW_NUMBER() OVER (ORDER BY created_at DESC, timer_id DESC) AS rn FROM timer WHERE user_book_id = ?) r " +
+            "WHERE r.rn > ? AND r.is_reading = false) d ON d.timer_id = t.timer_id";
+
+    // user_book_id keyset으로 보관 개수를 넘은 도서 조회
+    private static final String OVER_LIMIT_SQL = "SELECT user_book_id FROM timer WHERE user_book_id > ? " +
+            "GROUP BY user_book_id HAVING COUNT(*) > ? ORDER BY user_book_id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TimerRetentionProperties properties;
+    private final TaskExecutor taskExecutor;
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    private final Counter deletedAfterStopCounter;
+    private final Counter deletedBySweepCounter;
+    private final Counter failureCounter;
+    private final Timer sweepTimer;
+
+    public TimerRetention(JdbcTemplate jdbcTemplate, TimerRetentionProperties properties, MeterRegistry meterRegistry,
+                          @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.taskExecutor = taskExecutor;
+        this.deletedAfterStopCounter = meterRegistry.counter("timer.retention.deleted", "trigger", "stop");
+        this.deletedBySweepCounter = meterRegistry.counter("timer.retention.deleted", "trigger", "sweep");
+        this.failureCounter = meterRegistry.counter("timer.retention.failures");
+        this.sweepTimer = meterRegistry.timer("timer.retention.sweep.duration");
+        meterRegistry.gaugeCollectionSize("timer.retention.pending", Tags.empty(), pending);
+    }
+
+    // 타이머 종료 트랜잭션 커밋 후 백그라운드에서 정리 (같은 도서가 이미 대기 중이면 한 번만 실행)
+    public void trimAfterCommit(Long userBookId) {
+        if (!properties.isEnabled() || !properties.isTrimAfterStop()) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            if (!pending.add(userBookId)) {
+                return;
+            }
+            try {
+                taskExecutor.execute(() -> {
+                    pending.remove(userBookId);
+                    try {
+                        deletedAfterStopCounter.increment(trim(userBookId));
+                    } catch (RuntimeException e) {
+                        failureCounter.increment();
+                        log.warn("타이머 정리 실패 - userBookId: {}, cause: {}", userBookId, e.getMessage());
+                    }
+                });
+            } catch (TaskRejectedException e) {
+                // 종료 중이거나 작업이 밀려 있으면 정기 정리(sweep)에 맡김
+                pending.remove(userBookId);
+                log.debug("타이머 정리 작업 거절 - userBookId: {}", userBookId);
+            }
+        });
+    }
+
+    public int trim(Long userBookId) {
+        return jdbcTemplate.update(TRIM_SQL, userBookId, properties.getMaxPerUserBook());
+    }
+
+    @Scheduled(cron = "${timer.retention.sweep-cron:0 0 4 * * *}")
+    public void sweep() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        sweepTimer.record(() -> {
+            long lastUserBookId = 0;
+            long deleted = 0;
+            try {
+                while (true) {
+                    List<Long> userBookIds = jdbcTemplate.queryForList(OVER_LIMIT_SQL, Long.class,
+                            lastUserBookId, properties.getMaxPerUserBook(), properties.getSweepBatchSize());
+                    for (Long userBookId : userBookIds) {
+                        deleted += trim(userBookId);
+                    }
+                    if (userBookIds.size() < properties.getSweepBatchSize()) {
+                        break;
+                    }
+                    lastUserBookId = userBookIds.get(userBookIds.size() - 1);
+                }
+            } catch (RuntimeException e) {
+                failureCounter.increment();
+                log.error("타이머 정리 실패 - 마지막 userBookId: {}", lastUserBookId, e);
+            }
+            deletedBySweepCounter.increment(deleted);
+            log.info("타이머 정리 완료 - 삭제: {}건", deleted);
+        });
+    }
+}
@@ -0,0 +1,27 @@
+package com.nookbook.domain.timer.infrastructure;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "timer.retention")
+@Getter
+@Setter
+public class TimerRetentionProperties {
+
+    private boolean enabled = true;
+
+    // 도서(UserBook)별로 남길 최근 타이머 수 (진행 중인 타이머는 지우지 않음)
+    private int maxPerUserBook = 9;
+
+    // 타이머 종료 후 비동기로 해당 도서의 타이머를 정리
+    private boolean trimAfterStop = true;
+
+    // 주기적으로 보관 개수를 넘은 도서를 찾아 정리 (trimAfterStop이 실패했거나 보관 개수를 줄인 경우)
+    private String sweepCron = "0 0 4 * * *";
+
+    // 정리 대상 도서를 한 번에 찾을 수
+    private int sweepBatchSize = 1_000;
+}
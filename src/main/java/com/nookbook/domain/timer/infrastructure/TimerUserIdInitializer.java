@@ -0,0 +1,38 @@
+package com.nookbook.domain.timer.infrastructure;
+
+import com.nookbook.domain.timer.domain.repository.TimerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TimerUserIdInitializer {
+
+    private static final int BATCH_SIZE = 5_000;
+
+    private final TimerRepository timerRepository;
+
+    // timer.user_id 도입 이전 기록을 user_book.user_id로 채움 (채울 행이 없으면 쿼리 한 번으로 끝남)
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void fillMissingUserIds() {
+        try {
+            long total = 0;
+            int updated;
+            do {
+                updated = timerRepository.fillMissingUserIds(BATCH_SIZE);
+                total += updated;
+            } while (updated == BATCH_SIZE);
+            if (total > 0) {
+                log.info("타이머 user_id 채우기 완료 - {}건", total);
+            }
+        } catch (RuntimeException e) {
+            log.error("타이머 user_id 채우기 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.nookbook.domain.user_book.application;
+
+import com.nookbook.domain.timer.domain.ReadingDays;
+import com.nookbook.domain.timer.domain.ReadingYear;
+import com.nookbook.domain.timer.domain.repository.ReadingYearRepository;
+import com.nookbook.domain.user.application.UserService;
+import com.nookbook.domain.user.domain.User;
+import com.nookbook.domain.user.exception.UserNotFoundException;
+import com.nookbook.domain.user_book.dto.response.ReadingHeatmapRes;
+import com.nookbook.domain.user_book.dto.response.ReadingStreakRes;
+import com.nookbook.global.DefaultAssert;
+import com.nookbook.global.config.security.token.UserPrincipal;
+import com.nookbook.global.payload.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.TreeMap;
+
+// 연속 독서일 / 연간 히트맵 조회 (reading_year만 읽음)
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReadingRecordService {
+
+    private final ReadingYearRepository readingYearRepository;
+    private final UserService userService;
+
+    public ResponseEntity<?> getReadingStreak(UserPrincipal userPrincipal) {
+        User user = validateUser(userPrincipal);
+        TreeMap<Integer, ReadingDays> years = new TreeMap<>();
+        for (ReadingYear readingYear : readingYearRepository.findByUserIdOrderByYear(user.getUserId())) {
+            years.put(readingYear.getYear(), readingYear.toReadingDays());
+        }
+
+        LocalDate today = LocalDate.now();
+        boolean readToday = ReadingStreaks.isReadingDay(years, today);
+        // 오늘 아직 읽지 않았으면 어제까지 이어진 기록을 현재 연속 독서일로 봄
+        int currentStreak = ReadingStreaks.streakEndingAt(years, readToday ? today : today.minusDays(1));
+
+        ReadingStreakRes readingStreakRes = ReadingStreakRes.builder()
+                .currentStreak(currentStreak)
+                .longestStreak(Math.max(ReadingStreaks.longestStreak(years), currentStreak))
+                .readToday(readToday)
+                .build();
+        return ResponseEntity.ok(ApiResponse.builder()
+                .check(true)
+                .information(readingStreakRes)
+                .build());
+    }
+
+    public ResponseEntity<?> getReadingHeatmap(UserPrincipal userPrincipal, int year) {
+        User user = validateUser(userPrincipal);
+        DefaultAssert.isTrue(year >= 2000 && year <= LocalDate.now().getYear(), "조회할 수 없는 연도입니다.");
+        ReadingDays days = readingYearRepository.findByUserIdAndYear(user.getUserId(), year)
+                .map(ReadingYear::toReadingDays)
+                .orElseGet(ReadingDays::empty);
+
+        int lengthOfYear = Year.of(year).length();
+        int[] minutes = new int[lengthOfYear];
+        long totalMinutes = 0;
+        for (int day = 1; day <= lengthOfYear; day++) {
+            minutes[day - 1] = days.getMinutes(day);
+            totalMinutes += minutes[day - 1];
+        }
+
+        ReadingHeatmapRes readingHeatmapRes = ReadingHeatmapRes.builder()
+                .year(year)
+                .readingDays(days.countReadingDays())
+                .totalMinutes(totalMinutes)
+                .minutes(minutes)
+                .build();
+        return ResponseEntity.ok(ApiResponse.builder()
+                .check(true)
+                .information(readingHeatmapRes)
+                .build());
+    }
+
+    private User validateUser(UserPrincipal userPrincipal) {
+        return userService.findByEmail(userPrincipal.getEmail())
+                .orElseThrow(UserNotFoundException::new);
+    }
+}
@@ -0,0 +1,65 @@
+package com.nookbook.domain.user_book.application;
+
+import com.nookbook.domain.timer.domain.ReadingDays;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 연도별 독서 일자(reading_year)를 이어 붙여 연속 독서일 계산
+// years는 연도 오름차순 (TreeMap)
+final class ReadingStreaks {
+
+    private ReadingStreaks() {
+    }
+
+    static boolean isReadingDay(Map<Integer, ReadingDays> years, LocalDate date) {
+        ReadingDays days = years.get(date.getYear());
+        return days != null && days.isReadingDay(date.getDayOfYear());
+    }
+
+    // date에서 끝나는 연속 독서일 (1월 1일까지 이어지면 전년도로 계속)
+    static int streakEndingAt(Map<Integer, ReadingDays> years, LocalDate date) {
+        int streak = 0;
+        int year = date.getYear();
+        int dayOfYear = date.getDayOfYear();
+        ReadingDays days;
+        while ((days = years.get(year)) != null) {
+            int yearStreak = days.streakEndingAt(dayOfYear);
+            streak += yearStreak;
+            if (yearStreak < dayOfYear) {
+                break;
+            }
+            year--;
+            dayOfYear = Year.of(year).length();
+        }
+        return streak;
+    }
+
+    // 연도별 최장 기록과, 12월 31일 -> 1월 1일로 이어지는 기록을 함께 계산
+    static int longestStreak(TreeMap<Integer, ReadingDays> years) {
+        int longest = 0;
+        int carry = 0;
+        Integer previousYear = null;
+        for (Map.Entry<Integer, ReadingDays> entry : years.entrySet()) {
+            int year = entry.getKey();
+            ReadingDays days = entry.getValue();
+            int lengthOfYear = Year.of(year).length();
+            longest = Math.max(longest, days.longestStreak(lengthOfYear));
+
+            boolean continued = previousYear != null && previousYear == year - 1 && carry > 0;
+            int leading = days.leadingStreak(lengthOfYear);
+            if (continued) {
+                longest = Math.max(longest, carry + leading);
+            }
+            if (continued && leading == lengthOfYear) {
+                carry += lengthOfYear;
+            } else {
+                carry = days.streakEndingAt(lengthOfYear);
+            }
+            previousYear = year;
+        }
+        return longest;
+    }
+}
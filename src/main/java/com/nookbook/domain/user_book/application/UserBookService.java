@@ -1,10 +1,14 @@
 package com.nookbook.domain.user_book.application;
 
-import com.nookbook.domain.book.domain.Book;
+import com.nookbook.domain.book.domain.repository.BookRepository;
+import com.nookbook.domain.book.domain.repository.BookSummary;
 import com.nookbook.domain.challenge.application.ParticipantService;
 import com.nookbook.domain.challenge.domain.Participant;
 import com.nookbook.domain.timer.application.TimerService;
-import com.nookbook.domain.timer.domain.Timer;
+import com.nookbook.domain.timer.domain.DailyReading;
+import com.nookbook.domain.timer.domain.repository.DailyReadingRepository;
+import com.nookbook.domain.timer.infrastructure.ReadingSessionRegistry;
+import com.nookbook.domain.timer.infrastructure.ReadingSessionRegistry.ReadingSession;
 import com.nookbook.domain.user.application.UserService;
 import com.nookbook.domain.user.domain.User;
 import com.nookbook.domain.user.domain.repository.UserRepository;
@@ -26,10 +30,12 @@ import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 @Slf4j
@@ -41,6 +47,9 @@ public class UserBookService {
 
     private final UserService userService;
     private final TimerService timerService;
+    private final DailyReadingRepository dailyReadingRepository;
+    private final ReadingSessionRegistry readingSessionRegistry;
+    private final BookRepository bookRepository;
 
     private final UserRepository userRepository;
     private final ParticipantService participantService;
@@ -109,58 +118,34 @@ public class UserBookService {
 
     private DailyUserBookCalendarRes getUserBookInfoByDate(User user, String date) {
         LocalDate localDate = convertStringToLocalDate(date);
-        // 유저의 특정 날짜에 대한 타이머 기록 조회
-        List<Timer> timers = timerService.getTimerListByDate(user, localDate);
-        log.info("타이머 리스트 수 : " + timers.size());
-        String totalReadTime = sumTotalReadTime(timers);
-        log.info("총 독서 시간 : " + totalReadTime);
-
-        return DailyUserBookCalendarRes.builder()
-                .totalReadTime(totalReadTime)
-                .startTime(getStartReadTime(timers))
-                .endTime(getEndReadTime(timers))
-                .bookList(getBookListByDate(user, date)) // 타이머 기록에 따른 책 목록
-                .build();
-
-    }
-
-    private String sumTotalReadTime(List<Timer> timerList) {
-        return timerService.sumTotalReadTime(timerList);
-    }
-
-    private List<Map<String, String>> getBookListByDate(User user, String date) {
-        LocalDate localDate = convertStringToLocalDate(date);
-
-        // 타이머 + 날짜 기준으로 기록 조회
-        List<Timer> timers = timerService.getTimerListByDate(user, localDate);
-
-        // 중복된 책 정보 제거
-        Set<Book> readBooks = timers.stream()
-                .map(timer -> timer.getUserBook().getBook())
-                .collect(Collectors.toSet());
-
-        List<Map<String, String>> bookList = new ArrayList<>();
-        for (Book book : readBooks) {
-            Map<String, String> bookInfo = Map.of(
-                    "title", book.getTitle(),
-                    "image", book.getImage()
-            );
-            bookList.add(bookInfo);
-        }
-
-        return bookList;
+        // 유저의 특정 날짜에 대한 독서 기록 집계 조회
+        Optional<DailyReading> dailyReading = dailyReadingRepository.findByUserIdAndReadingDate(user.getUserId(), localDate);
+        ReadingSession readingSession = findReadingSession(user, localDate, localDate);
+        Map<Long, BookSummary> books = findBooks(dailyReading.stream().toList(), readingSession);
+        return toDailyCalendarRes(dailyReading.orElse(null), readingSession, books);
     }
 
-    // 해당 월에 해당하는 날짜들에 대해 getBookListByDate 메소드 호출
+    // 해당 월의 집계를 범위 조회 한 번으로 읽어 날짜별로 채움
     private List<MonthlyUserBookCalendarRes> getUserBookInfoByMonth(User user, String date) {
         LocalDate localDate = LocalDate.parse(date + "-01"); // YYYY-MM 형식을 YYYY-MM-01로 변환
         YearMonth yearMonth = YearMonth.from(localDate);
 
+        List<DailyReading> dailyReadings = dailyReadingRepository.findByUserIdAndReadingDateBetweenOrderByReadingDate(
+                user.getUserId(), yearMonth.atDay(1), yearMonth.atEndOfMonth());
+        Map<LocalDate, DailyReading> dailyReadingByDate = new HashMap<>();
+        for (DailyReading dailyReading : dailyReadings) {
+            dailyReadingByDate.put(dailyReading.getReadingDate(), dailyReading);
+        }
+        ReadingSession readingSession = findReadingSession(user, yearMonth.atDay(1), yearMonth.atEndOfMonth());
+        Map<Long, BookSummary> books = findBooks(dailyReadings, readingSession);
+
         List<MonthlyUserBookCalendarRes> monthlyRecords = new ArrayList<>();
 
         for (int day = 1; day <= yearMonth.lengthOfMonth(); day++) {
             LocalDate currentDate = yearMonth.atDay(day);
-            DailyUserBookCalendarRes dailyRecord = getUserBookInfoByDate(user, currentDate.toString());
+            ReadingSession sessionOfDay = readingSession != null && readingSession.startedAt().toLocalDate().equals(currentDate)
+                    ? readingSession : null;
+            DailyUserBookCalendarRes dailyRecord = toDailyCalendarRes(dailyReadingByDate.get(currentDate), sessionOfDay, books);
 
             MonthlyUserBookCalendarRes monthlyUserBookCalendarRes = MonthlyUserBookCalendarRes.builder()
                     .date(currentDate.toString())
@@ -173,26 +158,73 @@ public class UserBookService {
         return monthlyRecords;
     }
 
+    // 집계는 타이머가 종료될 때 더해지므로, 진행 중인 타이머는 독서 세션 목록에서 확인
+    private ReadingSession findReadingSession(User user, LocalDate from, LocalDate to) {
+        return readingSessionRegistry.findLatest(user.getUserId(), LocalDate.now())
+                .filter(ReadingSession::isReading)
+                .filter(session -> !session.startedAt().toLocalDate().isBefore(from) && !session.startedAt().toLocalDate().isAfter(to))
+                .orElse(null);
+    }
 
-    private String getStartReadTime (List<Timer> timerList) {
-        if(timerList.isEmpty()) {
-            return null;
+    // 기간 내 읽은 도서의 제목/이미지를 IN 조회 한 번으로 가져옴
+    private Map<Long, BookSummary> findBooks(List<DailyReading> dailyReadings, ReadingSession readingSession) {
+        Set<Long> bookIds = new HashSet<>();
+        for (DailyReading dailyReading : dailyReadings) {
+            bookIds.addAll(dailyReading.getBookIdList());
+        }
+        if (readingSession != null) {
+            bookIds.add(readingSession.bookId());
         }
-        else{
-            // HH:SS 형식으로 변환
-            return timerList.get(0).getCreatedAt().toLocalTime().toString();
+        if (bookIds.isEmpty()) {
+            return Map.of();
         }
+        Map<Long, BookSummary> books = new HashMap<>();
+        for (BookSummary book : bookRepository.findSummariesByBookIdIn(bookIds)) {
+            books.put(book.getBookId(), book);
+        }
+        return books;
     }
 
-    // 맨 마지막 타이머의 is_reading이 true인 경우, 기록이 진행중이므로 null 반환
-    private String getEndReadTime(List<Timer> timerList) {
-        if(timerList.isEmpty() || timerList.get(timerList.size() - 1).isReading()) {
-            return null;
+    private DailyUserBookCalendarRes toDailyCalendarRes(DailyReading dailyReading, ReadingSession readingSession, Map<Long, BookSummary> books) {
+        long totalSeconds = 0;
+        LocalDateTime startTime = null;
+        LocalDateTime endTime = null;
+        List<Long> bookIds = new ArrayList<>();
+        if (dailyReading != null) {
+            totalSeconds = dailyReading.getTotalSeconds();
+            startTime = dailyReading.getFirstStart();
+            endTime = dailyReading.getLastEnd();
+            bookIds.addAll(dailyReading.getBookIdList());
+        }
+        // 기록이 진행 중이면 종료 시각은 null
+        if (readingSession != null) {
+            if (startTime == null || readingSession.startedAt().isBefore(startTime)) {
+                startTime = readingSession.startedAt();
+            }
+            endTime = null;
+            if (!bookIds.contains(readingSession.bookId())) {
+                bookIds.add(readingSession.bookId());
+            }
         }
-        else{
-            // HH:SS 형식으로 변환
-            return timerList.get(timerList.size() - 1).getUpdatedAt().toLocalTime().toString();
+
+        List<Map<String, String>> bookList = new ArrayList<>();
+        for (Long bookId : bookIds) {
+            BookSummary book = books.get(bookId);
+            if (book != null) {
+                bookList.add(Map.of(
+                        "title", book.getTitle(),
+                        "image", book.getImage()
+                ));
+            }
         }
+
+        return DailyUserBookCalendarRes.builder()
+                .totalReadTime(timerService.convertReadTimeToString(totalSeconds))
+                // HH:SS 형식으로 변환
+                .startTime(startTime != null ? startTime.toLocalTime().toString() : null)
+                .endTime(endTime != null ? endTime.toLocalTime().toString() : null)
+                .bookList(bookList) // 타이머 기록에 따른 책 목록
+                .build();
     }
 
     // 사용자 검증 메서드
@@ -10,7 +10,6 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.math.BigInteger;
 import java.time.Duration;
 import java.time.LocalTime;
 import java.util.ArrayList;
@@ -42,8 +41,9 @@ public class UserBook extends BaseEntity {
     private List<Note> notes = new ArrayList<>();
 
 
-    // 누적 독서 시간
-    private BigInteger totalReadTime = BigInteger.ZERO;
+    // 누적 독서 시간 (초)
+    @Column(name = "total_read_time", nullable = false)
+    private long totalReadTime;
 
     @Enumerated(EnumType.STRING)
     private BookStatus bookStatus = BookStatus.BEFORE_READ;
@@ -57,5 +57,5 @@ public class UserBook extends BaseEntity {
 
     public void updateBookStatus(BookStatus bookStatus) { this.bookStatus = bookStatus; }
 
-    public void addTotalReadTime(BigInteger totalReadTime) { this.totalReadTime = this.totalReadTime.add(totalReadTime); }
+    public void addTotalReadTime(long totalReadTime) { this.totalReadTime += totalReadTime; }
 }
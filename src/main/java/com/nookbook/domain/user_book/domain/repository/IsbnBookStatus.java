@@ -0,0 +1,13 @@
+package com.nookbook.domain.user_book.domain.repository;
+
+import com.nookbook.domain.user_book.domain.BookStatus;
+
+// ISBN 기준 사용자의 독서 상태 + 노트 수 프로젝션
+public interface IsbnBookStatus {
+
+    String getIsbn();
+
+    BookStatus getBookStatus();
+
+    long getNoteCount();
+}
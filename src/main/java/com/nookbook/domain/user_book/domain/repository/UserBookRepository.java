@@ -19,6 +19,14 @@ import java.util.Optional;
 public interface UserBookRepository extends JpaRepository<UserBook, Long> {
     Optional<UserBook> findByUserAndBook(User user, Book book);
 
+    List<UserBook> findByUserAndBookIn(User user, List<Book> books);
+
+    // 목록 화면의 ISBN들에 대한 독서 상태와 노트 수 (user_book이 없는 도서는 포함되지 않음)
+    @Query("SELECT b.isbn AS isbn, ub.bookStatus AS bookStatus, " +
+            "(SELECT COUNT(n) FROM Note n WHERE n.userBook = ub) AS noteCount " +
+            "FROM UserBook ub JOIN ub.book b WHERE ub.user = :user AND b.isbn IN :isbns")
+    List<IsbnBookStatus> findStatusesByUserAndIsbnIn(User user, List<String> isbns);
+
     List<UserBook> findByUserAndBookStatus(User user, BookStatus bookStatus);
 
     @Query("SELECT ub FROM UserBook ub " +
@@ -0,0 +1,27 @@
+package com.nookbook.domain.user_book.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReadingHeatmapRes {
+
+    @Schema(type = "int", example = "2025", description = "연도")
+    private int year;
+
+    @Schema(type = "int", example = "120", description = "독서한 날 수")
+    private int readingDays;
+
+    @Schema(type = "long", example = "5400", description = "연간 독서 시간 (분)")
+    private long totalMinutes;
+
+    // 1월 1일부터 12월 31일까지 일별 독서 시간 (분)
+    @Schema(type = "array", example = "[0, 35, 12, 0]", description = "1월 1일부터 일별 독서 시간 (분)")
+    private int[] minutes;
+}
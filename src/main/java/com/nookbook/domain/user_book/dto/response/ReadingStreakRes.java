@@ -0,0 +1,23 @@
+package com.nookbook.domain.user_book.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReadingStreakRes {
+
+    @Schema(type = "int", example = "5", description = "현재 연속 독서일 (오늘 기록이 없으면 어제까지의 연속 독서일)")
+    private int currentStreak;
+
+    @Schema(type = "int", example = "21", description = "최장 연속 독서일")
+    private int longestStreak;
+
+    @Schema(type = "boolean", example = "true", description = "오늘 독서 기록 여부")
+    private boolean readToday;
+}
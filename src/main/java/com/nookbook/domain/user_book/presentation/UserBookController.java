@@ -1,7 +1,10 @@
 package com.nookbook.domain.user_book.presentation;
 
+import com.nookbook.domain.user_book.application.ReadingRecordService;
 import com.nookbook.domain.user_book.application.UserBookService;
 import com.nookbook.domain.user_book.dto.response.DailyUserBookCalendarRes;
+import com.nookbook.domain.user_book.dto.response.ReadingHeatmapRes;
+import com.nookbook.domain.user_book.dto.response.ReadingStreakRes;
 import com.nookbook.global.config.security.token.CurrentUser;
 import com.nookbook.global.config.security.token.UserPrincipal;
 import com.nookbook.global.payload.ErrorResponse;
@@ -26,6 +29,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 public class UserBookController {
 
     private final UserBookService userBookService;
+    private final ReadingRecordService readingRecordService;
 
     // 날짜별 사용자 독서 기록 조회
     // 날짜 형식: 2021-11-01 또는 2021-11
@@ -41,4 +45,29 @@ public class UserBookController {
     ) {
         return userBookService.getUserBookCalendar(userPrincipal, date);
     }
+
+    @Operation(summary = "연속 독서일 조회", description = "사용자의 현재 / 최장 연속 독서일을 조회합니다.")
+    @GetMapping("/streak")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "연속 독서일 조회 성공", content = { @Content(mediaType = "application/json", schema = @Schema(implementation = ReadingStreakRes.class)) } ),
+            @ApiResponse(responseCode = "400", description = "연속 독서일 조회 실패", content = { @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class) ) } ),
+    } )
+    public ResponseEntity<?> getReadingStreak(
+            @Parameter(description = "Accesstoken을 입력해주세요.", required = true) @CurrentUser UserPrincipal userPrincipal
+    ) {
+        return readingRecordService.getReadingStreak(userPrincipal);
+    }
+
+    @Operation(summary = "연간 독서 히트맵 조회", description = "사용자의 연간 일별 독서 시간(분)을 조회합니다.")
+    @GetMapping("/heatmap/{year}")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "독서 히트맵 조회 성공", content = { @Content(mediaType = "application/json", schema = @Schema(implementation = ReadingHeatmapRes.class)) } ),
+            @ApiResponse(responseCode = "400", description = "독서 히트맵 조회 실패", content = { @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class) ) } ),
+    } )
+    public ResponseEntity<?> getReadingHeatmap(
+            @Parameter(description = "Accesstoken을 입력해주세요.", required = true) @CurrentUser UserPrincipal userPrincipal,
+            @Parameter(description = "조회할 연도를 입력해주세요.", example = "2025", required = true) @PathVariable int year
+    ) {
+        return readingRecordService.getReadingHeatmap(userPrincipal, year);
+    }
 }
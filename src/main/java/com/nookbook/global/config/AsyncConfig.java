@@ -0,0 +1,11 @@
+package com.nookbook.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+// 기동 직후 초기화, 커밋 후 정리 작업 등 응답을 기다리지 않는 작업은 @Async로 실행
+// 실행 스레드는 Spring Boot 기본 풀(applicationTaskExecutor, spring.task.execution 설정)을 사용하며 컨텍스트 종료 시 함께 종료됨
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
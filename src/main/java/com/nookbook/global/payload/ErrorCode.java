@@ -40,6 +40,9 @@ public enum ErrorCode {
 
     // Book (BK)
     BOOK_NOT_FOUND(404, "BK001", "해당 도서를 찾을 수 없습니다."),
+    ALADIN_QUOTA_EXCEEDED(503, "BK002", "도서 정보 조회 한도를 초과했습니다. 잠시 후 다시 시도해주세요."),
+    ALADIN_UNAVAILABLE(503, "BK003", "도서 정보 서비스에 일시적으로 연결할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    ALADIN_RATE_LIMITED(503, "BK004", "도서 정보 조회 요청이 많습니다. 잠시 후 다시 시도해주세요."),
 
     // Alarm (ALM)
     ALARM_PUSH_SEND_FAILED(500, "ALM001", "푸시 알림 전송에 실패했습니다."),
@@ -12,6 +12,35 @@ public class TimeFormatter {
     public record TimeResult(TimeType type, int value) {
     }
 
+    // 독서 시간 "HH:mm:ss" 변환용 버퍼 (스레드별로 재사용, 시간은 2자리 이상)
+    private static final ThreadLocal<char[]> READ_TIME_BUFFER = ThreadLocal.withInitial(() -> new char[24]);
+
+    // 초 -> "HH:mm:ss" (String.format 없이 버퍼에 직접 채움, 음수는 0으로 처리)
+    public static String formatReadTime(long totalSeconds) {
+        char[] buffer = READ_TIME_BUFFER.get();
+        long time = Math.max(totalSeconds, 0);
+        int pos = buffer.length;
+        pos = writeTwoDigits(buffer, pos, (int) (time % 60));
+        buffer[--pos] = ':';
+        pos = writeTwoDigits(buffer, pos, (int) (time % 3600 / 60));
+        buffer[--pos] = ':';
+        long hours = time / 3600;
+        do {
+            buffer[--pos] = (char) ('0' + hours % 10);
+            hours /= 10;
+        } while (hours > 0);
+        if (pos == buffer.length - 7) {
+            buffer[--pos] = '0';
+        }
+        return new String(buffer, pos, buffer.length - pos);
+    }
+
+    private static int writeTwoDigits(char[] buffer, int pos, int value) {
+        buffer[--pos] = (char) ('0' + value % 10);
+        buffer[--pos] = (char) ('0' + value / 10);
+        return pos;
+    }
+
     public static TimeResult formatToTimeAgo(LocalDateTime createdAt) {
         LocalDateTime now = LocalDateTime.now(); // 현재 시간
         // 생성된 시간과 현재 시간의 차이
@@ -0,0 +1,125 @@
+package com.nookbook.domain.book.batch;
+
+import com.nookbook.domain.book.infrastructure.recommendation.RecommendationProperties;
+import com.nookbook.domain.book.infrastructure.recommendation.SimilarBooks;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CoOccurrenceCounterTest {
+
+    @Test
+    void finish_ordersNeighboursByScoreAndKeepsTopK() {
+        RecommendationProperties properties = properties(2, 1, 300, 1_000);
+        CoOccurrenceCounter counter = new CoOccurrenceCounter(properties);
+        // 도서 1의 이웃 점수: 2 = 2/sqrt(3*2), 3 = 1/sqrt(3*1), 4 = 1/sqrt(3*3)
+        accept(counter, 1, 1, 2, 3);
+        accept(counter, 2, 1, 2);
+        accept(counter, 3, 1, 4);
+        accept(counter, 4, 4);
+        accept(counter, 5, 4);
+
+        SimilarBooks similarBooks = counter.finish();
+
+        int index = similarBooks.indexOf(1);
+        assertTrue(index >= 0);
+        assertArrayEquals(new long[]{2, 3}, neighbours(similarBooks, index));
+        assertEquals((float) (2 / Math.sqrt(6)), similarBooks.score(similarBooks.from(index)));
+        assertEquals((float) (1 / Math.sqrt(3)), similarBooks.score(similarBooks.from(index) + 1));
+    }
+
+    @Test
+    void finish_dropsPairsBelowMinCoOccurrence() {
+        RecommendationProperties properties = properties(20, 2, 300, 1_000);
+        CoOccurrenceCounter counter = new CoOccurrenceCounter(properties);
+        accept(counter, 1, 1, 2, 3);
+        accept(counter, 2, 1, 2);
+
+        SimilarBooks similarBooks = counter.finish();
+
+        assertEquals(2, similarBooks.size());
+        assertArrayEquals(new long[]{2}, neighbours(similarBooks, similarBooks.indexOf(1)));
+        assertArrayEquals(new long[]{1}, neighbours(similarBooks, similarBooks.indexOf(2)));
+        assertEquals(-1, similarBooks.indexOf(3));
+    }
+
+    @Test
+    void finish_countsDuplicateBooksOfOneUserOnce() {
+        RecommendationProperties properties = properties(20, 2, 300, 1_000);
+        CoOccurrenceCounter counter = new CoOccurrenceCounter(properties);
+        // 읽은 도서와 컬렉션에 담은 도서가 겹치는 경우
+        accept(counter, 1, 1, 2, 1, 2);
+
+        assertEquals(0, counter.finish().size());
+    }
+
+    @Test
+    void finish_capsBasketAtMaxBasketSize() {
+        RecommendationProperties properties = properties(20, 1, 2, 1_000);
+        CoOccurrenceCounter counter = new CoOccurrenceCounter(properties);
+        accept(counter, 1, 1, 2, 3, 4, 5);
+
+        SimilarBooks similarBooks = counter.finish();
+
+        assertEquals(2, similarBooks.size());
+        assertEquals(2, similarBooks.neighbourCount());
+    }
+
+    @Test
+    void finish_sameResultWithAndWithoutSpilling() {
+        SimilarBooks inMemory = run(properties(5, 2, 300, 1_000_000));
+        // 쌍 몇 개마다 임시 파일로 내려 쓰게 함
+        SimilarBooks spilled = run(properties(5, 2, 300, 16));
+
+        assertTrue(inMemory.size() > 0);
+        assertEquals(inMemory.size(), spilled.size());
+        assertEquals(inMemory.neighbourCount(), spilled.neighbourCount());
+        for (int i = 0; i < inMemory.size(); i++) {
+            assertEquals(inMemory.from(i), spilled.from(i));
+            assertEquals(inMemory.to(i), spilled.to(i));
+        }
+        for (int position = 0; position < inMemory.neighbourCount(); position++) {
+            assertEquals(inMemory.neighbourId(position), spilled.neighbourId(position));
+            assertEquals(inMemory.score(position), spilled.score(position));
+        }
+    }
+
+    private SimilarBooks run(RecommendationProperties properties) {
+        CoOccurrenceCounter counter = new CoOccurrenceCounter(properties);
+        Random random = new Random(7);
+        for (long userId = 1; userId <= 200; userId++) {
+            int books = random.nextInt(8) + 1;
+            for (int i = 0; i < books; i++) {
+                counter.accept(userId, random.nextInt(40) + 1);
+            }
+        }
+        return counter.finish();
+    }
+
+    private void accept(CoOccurrenceCounter counter, long userId, long... bookIds) {
+        for (long bookId : bookIds) {
+            counter.accept(userId, bookId);
+        }
+    }
+
+    private long[] neighbours(SimilarBooks similarBooks, int index) {
+        long[] neighbours = new long[similarBooks.to(index) - similarBooks.from(index)];
+        for (int i = 0; i < neighbours.length; i++) {
+            neighbours[i] = similarBooks.neighbourId(similarBooks.from(index) + i);
+        }
+        return neighbours;
+    }
+
+    private RecommendationProperties properties(int topK, int minCoOccurrence, int maxBasketSize, int maxPairsInMemory) {
+        RecommendationProperties properties = new RecommendationProperties();
+        properties.setTopK(topK);
+        properties.setMinCoOccurrence(minCoOccurrence);
+        properties.setMaxBasketSize(maxBasketSize);
+        properties.setMaxPairsInMemory(maxPairsInMemory);
+        return properties;
+    }
+}
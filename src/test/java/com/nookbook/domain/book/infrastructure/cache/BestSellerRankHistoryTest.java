@@ -0,0 +1,163 @@
+package com.nookbook.domain.book.infrastructure.cache;
+
+import com.nookbook.domain.book.dto.response.BestSellerBookRes;
+import com.nookbook.domain.book.dto.response.BestSellerRes;
+import com.nookbook.domain.book.dto.response.RankChange;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BestSellerRankHistoryTest {
+
+    private static final LocalDateTime DAY_1 = LocalDateTime.of(2024, 5, 1, 6, 0);
+    private static final LocalDateTime DAY_2 = LocalDateTime.of(2024, 5, 2, 6, 0);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void annotate_comparesWithPreviousDayRecord() {
+        new BestSellerRankHistory(directory.toString(), 30)
+                .record(snapshot(DAY_1, 0, "9780000000001", "9780000000002", "9780000000003", "9780000000004"));
+
+        // 새 인스턴스로 파일에서 다시 읽음 (재시작 후와 같음)
+        BestSellerRankHistory history = new BestSellerRankHistory(directory.toString(), 30);
+        BestSellerSnapshot today = snapshot(DAY_2, 0, "9780000000003", "9780000000002", "9780000000005", "9780000000001");
+        List<BestSellerBookRes> items = items(history.annotate(today), 0);
+        assertRankChange(items.get(0), RankChange.UP, 2);
+        assertRankChange(items.get(1), RankChange.SAME, 0);
+        assertRankChange(items.get(2), RankChange.NEW, 0);
+        assertRankChange(items.get(3), RankChange.DOWN, 3);
+    }
+
+    @Test
+    void annotate_comparesEachCategorySeparately() {
+        Map<BestSellerSnapshot.PageKey, BestSellerRes> pages = new HashMap<>();
+        pages.put(new BestSellerSnapshot.PageKey(0, 1), page("9780000000001", "9780000000002"));
+        pages.put(new BestSellerSnapshot.PageKey(1, 1), page("9780000000002", "9780000000001"));
+        BestSellerRankHistory history = new BestSellerRankHistory(directory.toString(), 30);
+        history.record(new BestSellerSnapshot(pages, DAY_1));
+
+        BestSellerSnapshot today = snapshot(DAY_2, 1, "9780000000001", "9780000000002");
+        List<BestSellerBookRes> items = items(history.annotate(today), 1);
+        assertRankChange(items.get(0), RankChange.UP, 1);
+        assertRankChange(items.get(1), RankChange.DOWN, 1);
+    }
+
+    @Test
+    void annotate_leavesChangeEmptyWithoutPreviousRecord() {
+        BestSellerRankHistory history = new BestSellerRankHistory(directory.toString(), 30);
+        // 같은 날 기록은 비교 대상이 아님
+        history.record(snapshot(DAY_2, 0, "9780000000001"));
+
+        BestSellerSnapshot today = snapshot(DAY_2, 0, "9780000000001");
+
+        assertSame(today, history.annotate(today));
+        assertNull(items(today, 0).get(0).getRankChange());
+        assertNull(items(today, 0).get(0).getRankDelta());
+    }
+
+    @Test
+    void annotate_ignoresItemsWithoutNumericIsbn() {
+        BestSellerRankHistory history = new BestSellerRankHistory(directory.toString(), 30);
+        history.record(snapshot(DAY_1, 0, "9780000000001", "X"));
+
+        BestSellerSnapshot today = snapshot(DAY_2, 0, "X", "9780000000001");
+        BestSellerSnapshot annotated = history.annotate(today);
+
+        assertNull(items(annotated, 0).get(0).getRankChange());
+        assertRankChange(items(annotated, 0).get(1), RankChange.DOWN, 1);
+    }
+
+    @Test
+    void annotate_leavesGivenSnapshotUntouched() {
+        BestSellerRankHistory history = new BestSellerRankHistory(directory.toString(), 30);
+        history.record(snapshot(DAY_1, 0, "9780000000001", "9780000000002"));
+
+        BestSellerSnapshot today = snapshot(DAY_2, 0, "9780000000002", "9780000000001");
+        BestSellerSnapshot annotated = history.annotate(today);
+
+        assertNotSame(today, annotated);
+        assertNull(items(today, 0).get(0).getRankChange());
+        assertNull(items(today, 0).get(1).getRankChange());
+        assertRankChange(items(annotated, 0).get(0), RankChange.UP, 1);
+        assertEquals("9780000000002", items(annotated, 0).get(0).getIsbn13());
+        assertEquals(1, items(annotated, 0).get(0).getBestRank());
+    }
+
+    @Test
+    void annotate_clearsChangeCopiedFromEarlierAnnotation() {
+        BestSellerRankHistory history = new BestSellerRankHistory(directory.toString(), 30);
+        history.record(snapshot(DAY_1, 0, "9780000000001"));
+
+        // 이전 스냅샷에서 복사된, 이미 순위 변동이 채워진 페이지 (카테고리 1은 전날 기록이 없음)
+        BestSellerBookRes stale = BestSellerBookRes.builder()
+                .isbn13("9780000000009")
+                .bestRank(1)
+                .build()
+                .withRankChange(RankChange.UP, 4);
+        Map<BestSellerSnapshot.PageKey, BestSellerRes> pages = new HashMap<>();
+        pages.put(new BestSellerSnapshot.PageKey(0, 1), page("9780000000001"));
+        pages.put(new BestSellerSnapshot.PageKey(1, 1), BestSellerRes.builder().items(List.of(stale)).build());
+        BestSellerSnapshot annotated = history.annotate(new BestSellerSnapshot(pages, DAY_2));
+
+        assertNull(items(annotated, 1).get(0).getRankChange());
+        assertRankChange(items(annotated, 0).get(0), RankChange.SAME, 0);
+    }
+
+    @Test
+    void record_deletesFilesPastRetention() {
+        BestSellerRankHistory history = new BestSellerRankHistory(directory.toString(), 1);
+        history.record(snapshot(DAY_1.minusDays(1), 0, "9780000000001"));
+        history.record(snapshot(DAY_1, 0, "9780000000001"));
+        history.record(snapshot(DAY_2, 0, "9780000000001"));
+
+        assertFalse(Files.exists(directory.resolve("ranks-2024-04-30.bin")));
+        assertTrue(Files.exists(directory.resolve("ranks-2024-05-01.bin")));
+        assertTrue(Files.exists(directory.resolve("ranks-2024-05-02.bin")));
+    }
+
+    private BestSellerSnapshot snapshot(LocalDateTime refreshedAt, int category, String... isbns) {
+        return new BestSellerSnapshot(Map.of(new BestSellerSnapshot.PageKey(category, 1), page(isbns)), refreshedAt);
+    }
+
+    // isbns 순서대로 1위부터
+    private BestSellerRes page(String... isbns) {
+        List<BestSellerBookRes> items = new ArrayList<>();
+        for (int i = 0; i < isbns.length; i++) {
+            items.add(BestSellerBookRes.builder()
+                    .isbn13(isbns[i])
+                    .bestRank(i + 1)
+                    .build());
+        }
+        return BestSellerRes.builder()
+                .totalResults(items.size())
+                .startIndex(1)
+                .itemsPerPage(items.size())
+                .items(items)
+                .build();
+    }
+
+    private List<BestSellerBookRes> items(BestSellerSnapshot snapshot, int category) {
+        return snapshot.get(category, 1).getItems();
+    }
+
+    private void assertRankChange(BestSellerBookRes item, RankChange rankChange, int rankDelta) {
+        assertEquals(rankChange, item.getRankChange());
+        assertEquals(rankDelta, (int) item.getRankDelta());
+    }
+}
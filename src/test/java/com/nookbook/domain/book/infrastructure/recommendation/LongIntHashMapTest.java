@@ -0,0 +1,96 @@
+package com.nookbook.domain.book.infrastructure.recommendation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LongIntHashMapTest {
+
+    @Test
+    void addTo_returnsAccumulatedValue() {
+        LongIntHashMap map = new LongIntHashMap(4);
+
+        assertEquals(1, map.addTo(7L, 1));
+        assertEquals(4, map.addTo(7L, 3));
+        assertEquals(4, map.get(7L));
+        assertEquals(0, map.get(8L));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void addTo_keepsAllKeysThroughCollisionsAndResize() {
+        // 작은 테이블에서 시작해 충돌과 여러 번의 resize를 거치게 함
+        LongIntHashMap map = new LongIntHashMap(4);
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 50_000; i++) {
+            long key = random.nextInt(20_000) + 1L;
+            if (i % 3 == 0) {
+                // 도서 쌍 key처럼 상위 32bit를 쓰는 key
+                key = key << 32 | (i % 97 + 1);
+            }
+            int delta = random.nextInt(5) + 1;
+            map.addTo(key, delta);
+            expected.merge(key, delta, Integer::sum);
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (Map.Entry<Long, Integer> entry : expected.entrySet()) {
+            assertEquals((int) entry.getValue(), map.get(entry.getKey()));
+        }
+    }
+
+    @Test
+    void addTo_acceptsNegativeKeys() {
+        LongIntHashMap map = new LongIntHashMap(4);
+        map.addTo(-1L, 2);
+        map.addTo(Long.MIN_VALUE, 3);
+
+        assertEquals(2, map.get(-1L));
+        assertEquals(3, map.get(Long.MIN_VALUE));
+    }
+
+    @Test
+    void addTo_rejectsZeroKey() {
+        LongIntHashMap map = new LongIntHashMap(4);
+
+        assertThrows(IllegalArgumentException.class, () -> map.addTo(0L, 1));
+        assertEquals(0, map.get(0L));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void sortedKeys_returnsKeysInAscendingOrder() {
+        LongIntHashMap map = new LongIntHashMap(4);
+        for (long key : new long[]{5L << 32 | 1, 3L, 9L, 1L << 32 | 7, 3L, 2L}) {
+            map.addTo(key, 1);
+        }
+
+        assertArrayEquals(new long[]{2L, 3L, 9L, 1L << 32 | 7, 5L << 32 | 1}, map.sortedKeys());
+        assertEquals(2, map.get(3L));
+    }
+
+    @Test
+    void clear_emptiesMapForReuse() {
+        LongIntHashMap map = new LongIntHashMap(4);
+        for (long key = 1; key <= 100; key++) {
+            map.addTo(key, 1);
+        }
+
+        map.clear();
+
+        assertTrue(map.isEmpty());
+        assertEquals(0, map.get(50L));
+        assertArrayEquals(new long[0], map.sortedKeys());
+        map.addTo(50L, 2);
+        assertEquals(2, map.get(50L));
+        assertEquals(1, map.size());
+    }
+}
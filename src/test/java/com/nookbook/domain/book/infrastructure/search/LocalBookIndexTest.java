@@ -0,0 +1,129 @@
+package com.nookbook.domain.book.infrastructure.search;
+
+import com.nookbook.domain.book.domain.Book;
+import com.nookbook.domain.book.dto.response.SearchBookRes;
+import com.nookbook.domain.book.dto.response.SearchRes;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocalBookIndexTest {
+
+    @Test
+    void search_matchesKoreanBigrams() {
+        LocalBookIndex index = index(1);
+        index.add(book("9780000000001", "채식주의자", "한강", "창비"));
+        index.add(book("9780000000002", "소년이 온다", "한강", "창비"));
+
+        assertEquals(List.of("9780000000001"), isbns(index.search("주의자", 1)));
+        // 공백으로 나눈 단어마다 bigram을 만들므로 띄어 쓴 검색어도 매칭
+        assertEquals(List.of("9780000000001"), isbns(index.search("채식 주의", 1)));
+        // 모든 bigram을 포함해야 매칭 (순서가 다른 글자 조합은 제외)
+        assertFalse(index.search("주의채", 1).isPresent());
+        // 저자/출판사도 색인
+        assertEquals(2, isbns(index.search("한강", 1)).size());
+        assertEquals(2, isbns(index.search("창비", 1)).size());
+    }
+
+    @Test
+    void search_normalizesCaseAndWhitespace() {
+        LocalBookIndex index = index(1);
+        index.add(book("9780000000001", "Clean Code", "Robert Martin", "인사이트"));
+
+        assertEquals(List.of("9780000000001"), isbns(index.search("  CLEAN   code ", 1)));
+    }
+
+    @Test
+    void search_ranksTitleHitsBeforeOtherHits() {
+        LocalBookIndex index = index(1);
+        index.add(book("9780000000001", "바다의 노래", "김작가", "문학사"));
+        // 나중에 색인됐지만 제목이 아닌 출판사에서만 매칭
+        index.add(book("9780000000002", "여름 기록", "이작가", "바다출판"));
+        index.add(book("9780000000003", "겨울 바다", "박작가", "문학사"));
+
+        // 제목 매칭 먼저 (그 안에서는 최근 색인 순), 그다음 나머지
+        assertEquals(List.of("9780000000003", "9780000000001", "9780000000002"), isbns(index.search("바다", 1)));
+    }
+
+    @Test
+    void search_fallsBackBelowMinResults() {
+        LocalBookIndex index = index(3);
+        index.add(book("9780000000001", "파이썬 입문", "김작가", "한빛"));
+        index.add(book("9780000000002", "파이썬 중급", "김작가", "한빛"));
+
+        assertFalse(index.search("파이썬", 1).isPresent());
+
+        index.add(book("9780000000003", "파이썬 고급", "김작가", "한빛"));
+
+        assertTrue(index.search("파이썬", 1).isPresent());
+        assertFalse(index.search("파이썬", 1, 4).isPresent());
+    }
+
+    @Test
+    void search_slicesPagesAndAnswersPastLastHitWithEmptyPage() {
+        LocalBookIndex index = index(10);
+        for (int i = 1; i <= 12; i++) {
+            index.add(book(String.format("97800000000%02d", i), "자바 " + i + "권", "김작가", "한빛"));
+        }
+
+        SearchRes first = index.search("자바", 1).orElseThrow();
+        SearchRes second = index.search("자바", 2).orElseThrow();
+        assertEquals(12, first.getTotalResults());
+        assertEquals(10, first.getItems().size());
+        assertEquals(2, second.getItems().size());
+        assertEquals(2, second.getStartIndex());
+
+        // 마지막 결과 이후 페이지도 알라딘으로 넘기지 않고 빈 페이지
+        Optional<SearchRes> third = index.search("자바", 3);
+        assertTrue(third.isPresent());
+        assertEquals(12, third.get().getTotalResults());
+        assertTrue(third.get().getItems().isEmpty());
+    }
+
+    @Test
+    void add_skipsDuplicateIsbn() {
+        LocalBookIndex index = index(1);
+        index.add(book("9780000000001", "어린 왕자", "생텍쥐페리", "열린책들"));
+        index.add(book("9780000000001", "어린 왕자", "생텍쥐페리", "열린책들"));
+
+        assertEquals(1, isbns(index.search("왕자", 1)).size());
+    }
+
+    @Test
+    void search_returnsEmptyWhenDisabledOrInvalidPage() {
+        LocalSearchProperties properties = new LocalSearchProperties();
+        properties.setMinResults(1);
+        LocalBookIndex index = new LocalBookIndex(null, properties, new SimpleMeterRegistry());
+        index.add(book("9780000000001", "어린 왕자", "생텍쥐페리", "열린책들"));
+
+        assertFalse(index.search("왕자", 0).isPresent());
+        properties.setEnabled(false);
+        assertFalse(index.search("왕자", 1).isPresent());
+    }
+
+    private LocalBookIndex index(int minResults) {
+        LocalSearchProperties properties = new LocalSearchProperties();
+        properties.setMinResults(minResults);
+        return new LocalBookIndex(null, properties, new SimpleMeterRegistry());
+    }
+
+    private Book book(String isbn, String title, String author, String publisher) {
+        return Book.builder()
+                .isbn(isbn)
+                .title(title)
+                .author(author)
+                .publisher(publisher)
+                .category("국내도서")
+                .build();
+    }
+
+    private List<String> isbns(Optional<SearchRes> result) {
+        return result.orElseThrow().getItems().stream().map(SearchBookRes::getIsbn13).toList();
+    }
+}
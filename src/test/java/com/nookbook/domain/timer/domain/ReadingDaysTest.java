@@ -0,0 +1,112 @@
+package com.nookbook.domain.timer.domain;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReadingDaysTest {
+
+    @Test
+    void encode_decode_roundTrip() {
+        ReadingDays days = ReadingDays.empty();
+        days.put(1, 59);
+        days.put(64, 3_600);
+        days.put(65, 120);
+        days.put(200, 90);
+        days.put(366, 600);
+
+        byte[] encoded = days.encode();
+        ReadingDays decoded = ReadingDays.decode(encoded);
+
+        assertEquals(ReadingDays.ENCODED_SIZE, encoded.length);
+        assertArrayEquals(encoded, decoded.encode());
+        assertEquals(5, decoded.countReadingDays());
+        assertTrue(decoded.isReadingDay(1));
+        assertEquals(0, decoded.getMinutes(1));
+        assertEquals(60, decoded.getMinutes(64));
+        assertEquals(2, decoded.getMinutes(65));
+        assertEquals(1, decoded.getMinutes(200));
+        assertFalse(decoded.isReadingDay(2));
+        assertFalse(decoded.isReadingDay(365));
+    }
+
+    @Test
+    void put_keepsDay366OfLeapYear() {
+        ReadingDays days = ReadingDays.empty();
+        days.put(366, 60);
+
+        ReadingDays decoded = ReadingDays.decode(days.encode());
+
+        assertTrue(decoded.isReadingDay(366));
+        assertEquals(1, decoded.getMinutes(366));
+        assertEquals(1, decoded.streakEndingAt(366));
+        assertEquals(0, decoded.streakEndingAt(365));
+        assertEquals(1, decoded.longestStreak(366));
+        assertEquals(0, decoded.longestStreak(365));
+    }
+
+    @Test
+    void put_overwritesAndClearsDay() {
+        ReadingDays days = ReadingDays.empty();
+        days.put(10, 600);
+        days.put(10, 0);
+
+        assertFalse(days.isReadingDay(10));
+        assertEquals(0, days.getMinutes(10));
+        assertEquals(0, days.countReadingDays());
+    }
+
+    @Test
+    void put_capsMinutesAtShortMax() {
+        ReadingDays days = ReadingDays.empty();
+        days.put(1, Long.MAX_VALUE);
+
+        assertEquals(Short.MAX_VALUE, ReadingDays.decode(days.encode()).getMinutes(1));
+    }
+
+    @Test
+    void decode_returnsEmptyForUnknownData() {
+        assertEquals(0, ReadingDays.decode(null).countReadingDays());
+        assertEquals(0, ReadingDays.decode(new byte[3]).countReadingDays());
+        byte[] unknownVersion = ReadingDays.empty().encode();
+        unknownVersion[0] = 99;
+        assertEquals(0, ReadingDays.decode(unknownVersion).countReadingDays());
+    }
+
+    @Test
+    void streaks_coverFullYear() {
+        ReadingDays days = fullYear(365);
+
+        assertEquals(365, days.countReadingDays());
+        assertEquals(365, days.leadingStreak(365));
+        assertEquals(365, days.streakEndingAt(365));
+        assertEquals(365, days.longestStreak(365));
+    }
+
+    @Test
+    void streaks_findLongestRunInsideYear() {
+        ReadingDays days = ReadingDays.empty();
+        for (int day = 1; day <= 3; day++) {
+            days.put(day, 60);
+        }
+        for (int day = 60; day <= 70; day++) {
+            days.put(day, 60);
+        }
+
+        assertEquals(3, days.leadingStreak(365));
+        assertEquals(11, days.longestStreak(365));
+        assertEquals(6, days.streakEndingAt(65));
+        assertEquals(0, days.streakEndingAt(71));
+    }
+
+    static ReadingDays fullYear(int lengthOfYear) {
+        ReadingDays days = ReadingDays.empty();
+        for (int day = 1; day <= lengthOfYear; day++) {
+            days.put(day, 60);
+        }
+        return days;
+    }
+}
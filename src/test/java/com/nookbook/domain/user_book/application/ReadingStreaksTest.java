@@ -0,0 +1,86 @@
+package com.nookbook.domain.user_book.application;
+
+import com.nookbook.domain.timer.domain.ReadingDays;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReadingStreaksTest {
+
+    @Test
+    void streakEndingAt_continuesFromDec31IntoJan1() {
+        TreeMap<Integer, ReadingDays> years = new TreeMap<>();
+        read(years, LocalDate.of(2023, 12, 29), LocalDate.of(2024, 1, 2));
+
+        assertEquals(5, ReadingStreaks.streakEndingAt(years, LocalDate.of(2024, 1, 2)));
+        assertEquals(3, ReadingStreaks.streakEndingAt(years, LocalDate.of(2023, 12, 31)));
+        assertEquals(0, ReadingStreaks.streakEndingAt(years, LocalDate.of(2024, 1, 3)));
+    }
+
+    @Test
+    void streakEndingAt_carriesThroughFullLeapYear() {
+        TreeMap<Integer, ReadingDays> years = new TreeMap<>();
+        read(years, LocalDate.of(2023, 12, 31), LocalDate.of(2025, 1, 1));
+
+        // 2023-12-31 (1일) + 2024 전체 (366일) + 2025-01-01 (1일)
+        assertEquals(368, ReadingStreaks.streakEndingAt(years, LocalDate.of(2025, 1, 1)));
+        assertEquals(367, ReadingStreaks.streakEndingAt(years, LocalDate.of(2024, 12, 31)));
+    }
+
+    @Test
+    void streakEndingAt_stopsAtMissingYear() {
+        TreeMap<Integer, ReadingDays> years = new TreeMap<>();
+        read(years, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 3));
+
+        assertEquals(3, ReadingStreaks.streakEndingAt(years, LocalDate.of(2024, 1, 3)));
+    }
+
+    @Test
+    void longestStreak_joinsDec31AndJan1() {
+        TreeMap<Integer, ReadingDays> years = new TreeMap<>();
+        read(years, LocalDate.of(2023, 3, 1), LocalDate.of(2023, 3, 4));
+        read(years, LocalDate.of(2023, 12, 30), LocalDate.of(2024, 1, 3));
+
+        assertEquals(5, ReadingStreaks.longestStreak(years));
+    }
+
+    @Test
+    void longestStreak_carriesThroughFullYear() {
+        TreeMap<Integer, ReadingDays> years = new TreeMap<>();
+        read(years, LocalDate.of(2022, 12, 31), LocalDate.of(2024, 1, 2));
+
+        // 2022-12-31 (1일) + 2023 전체 (365일) + 2024-01-01 ~ 01-02 (2일)
+        assertEquals(368, ReadingStreaks.longestStreak(years));
+    }
+
+    @Test
+    void longestStreak_doesNotJoinNonConsecutiveYears() {
+        TreeMap<Integer, ReadingDays> years = new TreeMap<>();
+        read(years, LocalDate.of(2021, 12, 30), LocalDate.of(2021, 12, 31));
+        read(years, LocalDate.of(2023, 1, 1), LocalDate.of(2023, 1, 3));
+
+        assertEquals(3, ReadingStreaks.longestStreak(years));
+    }
+
+    @Test
+    void isReadingDay_handlesMissingYear() {
+        TreeMap<Integer, ReadingDays> years = new TreeMap<>();
+        read(years, LocalDate.of(2024, 12, 31), LocalDate.of(2024, 12, 31));
+
+        assertTrue(ReadingStreaks.isReadingDay(years, LocalDate.of(2024, 12, 31)));
+        assertFalse(ReadingStreaks.isReadingDay(years, LocalDate.of(2024, 12, 30)));
+        assertFalse(ReadingStreaks.isReadingDay(years, LocalDate.of(2025, 1, 1)));
+    }
+
+    private void read(TreeMap<Integer, ReadingDays> years, LocalDate from, LocalDate to) {
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            years.computeIfAbsent(date.getYear(), year -> ReadingDays.empty())
+                    .put(date.getDayOfYear(), 60);
+        }
+    }
+}
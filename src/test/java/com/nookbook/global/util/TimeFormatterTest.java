@@ -0,0 +1,37 @@
+package com.nookbook.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TimeFormatterTest {
+
+    @Test
+    void formatReadTime_padsToTwoDigits() {
+        assertEquals("00:00:00", TimeFormatter.formatReadTime(0));
+        assertEquals("00:00:59", TimeFormatter.formatReadTime(59));
+        assertEquals("00:01:00", TimeFormatter.formatReadTime(60));
+        assertEquals("00:59:59", TimeFormatter.formatReadTime(3599));
+        assertEquals("01:00:00", TimeFormatter.formatReadTime(3600));
+        assertEquals("99:59:59", TimeFormatter.formatReadTime(359999));
+    }
+
+    @Test
+    void formatReadTime_growsHoursPast99() {
+        assertEquals("100:00:00", TimeFormatter.formatReadTime(360000));
+        assertEquals("123:45:06", TimeFormatter.formatReadTime(123 * 3600 + 45 * 60 + 6));
+        assertEquals("2562047788015215:30:07", TimeFormatter.formatReadTime(Long.MAX_VALUE));
+    }
+
+    @Test
+    void formatReadTime_clampsNegativeToZero() {
+        assertEquals("00:00:00", TimeFormatter.formatReadTime(-1));
+        assertEquals("00:00:00", TimeFormatter.formatReadTime(Long.MIN_VALUE));
+    }
+
+    @Test
+    void formatReadTime_reusedBufferKeepsNoLeftovers() {
+        assertEquals("100:00:00", TimeFormatter.formatReadTime(360000));
+        assertEquals("00:00:05", TimeFormatter.formatReadTime(5));
+    }
+}